@@ -9,16 +9,50 @@ final class ContextIssue extends TrakrIssue {
 
     private final transient ContextTrakr trakr;
     private final transient TrakrIssue issue;
+    private transient volatile StewardLabelSet labelSet;
+    private transient volatile StewardLabelSet foldedLabelSet;
 
     ContextIssue(ContextTrakr trakr, TrakrIssue issue) {
         super(trakr);
         this.trakr = trakr;
         this.issue = issue;
+        updateLabelSets();
+    }
+
+    static StewardLabelSet getLabelSet(StewardLabels labels, TrakrIssue issue) {
+        if (issue instanceof ContextIssue) {
+            return labels.of(((ContextIssue) issue).labelSet);
+        }
+        return labels.of(issue.getLabels());
+    }
+
+    static StewardLabelSet getFoldedLabelSet(StewardLabels labels, TrakrIssue issue) {
+        if (issue instanceof ContextIssue) {
+            return labels.ofFolded(((ContextIssue) issue).foldedLabelSet);
+        }
+        return labels.ofFolded(issue.getLabels());
+    }
+
+    StewardLabelSet getFoldedLabelSet() {
+        return foldedLabelSet;
+    }
+
+    private void updateLabelSets() {
+        StewardLabelSet labels = trakr.getLabels().of(issue.getLabels());
+        labelSet = labels;
+        foldedLabelSet = labels.fold();
+    }
+
+    TrakrIssue getIssue() {
+        return issue;
     }
 
     @Override
     public void refresh() throws TrakrException {
-        issue.refresh();
+        synchronized (issue) {
+            issue.refresh();
+        }
+        updateLabelSets();
         trakr.addToContext(this);
     }
 
@@ -0,0 +1,210 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrContent;
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrPriority;
+import me.shib.lib.trakr.TrakrUser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+final class ContextSnapshot {
+
+    private static final String stateFileName = "context.json";
+
+    private String configHash;
+    private long loadedAt;
+    private TrakrContent.Type contentType;
+    private List<IssueRecord> issues;
+
+    private ContextSnapshot() {
+    }
+
+    private static File getStateFile(StewardStateStore stateStore, StewardData data) {
+        return stateStore.getFile(data, stateFileName);
+    }
+
+    static ContextSnapshot load(StewardStateStore stateStore, StewardData data, String configHash, long maxAge) {
+        if (stateStore == null || maxAge <= 0) {
+            return null;
+        }
+        ContextSnapshot snapshot = stateStore.read(getStateFile(stateStore, data), ContextSnapshot.class);
+        if (snapshot == null || snapshot.issues == null || !configHash.equals(snapshot.configHash)) {
+            return null;
+        }
+        if (new Date().getTime() - snapshot.loadedAt > maxAge) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    static void save(StewardStateStore stateStore, StewardData data, String configHash, ContextTrakr contextTrakr) {
+        ContextSnapshot snapshot = new ContextSnapshot();
+        snapshot.configHash = configHash;
+        snapshot.loadedAt = contextTrakr.getLoadedAt();
+        snapshot.contentType = contextTrakr.getContentType();
+        snapshot.issues = new ArrayList<>();
+        for (TrakrIssue issue : contextTrakr.getContextIssues()) {
+            snapshot.issues.add(new IssueRecord(issue));
+        }
+        stateStore.write(getStateFile(stateStore, data), snapshot);
+    }
+
+    long getLoadedAt() {
+        return loadedAt;
+    }
+
+    TrakrContent.Type getContentType() {
+        return contentType;
+    }
+
+    List<IssueRecord> getIssues() {
+        return issues;
+    }
+
+    static final class IssueRecord {
+
+        private String key;
+        private String projectKey;
+        private String title;
+        private String description;
+        private String type;
+        private String status;
+        private TrakrPriority priority;
+        private List<String> labels;
+        private Long createdDate;
+        private Long updatedDate;
+        private Long dueDate;
+        private UserRecord reporter;
+        private UserRecord assignee;
+
+        private IssueRecord() {
+        }
+
+        private IssueRecord(TrakrIssue issue) {
+            this.key = issue.getKey();
+            this.projectKey = issue.getProjectKey();
+            this.title = issue.getTitle();
+            this.description = issue.getDescription();
+            this.type = issue.getType();
+            this.status = issue.getStatus();
+            this.priority = issue.getPriority();
+            if (issue.getLabels() != null) {
+                this.labels = new ArrayList<>(issue.getLabels());
+            }
+            this.createdDate = toTime(issue.getCreatedDate());
+            this.updatedDate = toTime(issue.getUpdatedDate());
+            this.dueDate = toTime(issue.getDueDate());
+            this.reporter = UserRecord.of(issue.getReporter());
+            this.assignee = UserRecord.of(issue.getAssignee());
+        }
+
+        private static Long toTime(Date date) {
+            if (date == null) {
+                return null;
+            }
+            return date.getTime();
+        }
+
+        private static Date toDate(Long time) {
+            if (time == null) {
+                return null;
+            }
+            return new Date(time);
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        String getProjectKey() {
+            return projectKey;
+        }
+
+        String getTitle() {
+            return title;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        String getStatus() {
+            return status;
+        }
+
+        TrakrPriority getPriority() {
+            return priority;
+        }
+
+        List<String> getLabels() {
+            if (labels == null) {
+                labels = new ArrayList<>();
+            }
+            return labels;
+        }
+
+        Date getCreatedDate() {
+            return toDate(createdDate);
+        }
+
+        Date getUpdatedDate() {
+            return toDate(updatedDate);
+        }
+
+        Date getDueDate() {
+            return toDate(dueDate);
+        }
+
+        TrakrUser getReporter() {
+            return reporter;
+        }
+
+        TrakrUser getAssignee() {
+            return assignee;
+        }
+    }
+
+    static final class UserRecord implements TrakrUser {
+
+        private String name;
+        private String username;
+        private String email;
+
+        private UserRecord() {
+        }
+
+        private static UserRecord of(TrakrUser user) {
+            if (user == null) {
+                return null;
+            }
+            UserRecord record = new UserRecord();
+            record.name = user.getName();
+            record.username = user.getUsername();
+            record.email = user.getEmail();
+            return record;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+    }
+
+}
@@ -2,7 +2,7 @@ package me.shib.steward;
 
 import me.shib.lib.trakr.*;
 
-import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,20 +10,135 @@ import java.util.Map;
 final class ContextTrakr extends Trakr {
 
     private final transient Trakr trakr;
-    private final transient Map<String, TrakrIssue> contextIssueMap;
+    private final transient TrakrQuery contextQuery;
+    private final transient StewardLabels labels;
+    private final transient TrakrIssueIndex contextIssueIndex;
+    private final transient StewardMetrics metrics;
+    private final transient StewardContextStore contextStore;
+    private final transient long loadedAt;
+    private transient Map<String, TrakrIssue> reloadedIssues;
 
     ContextTrakr(Trakr trakr, TrakrQuery contextQuery) throws TrakrException {
+        this(trakr, contextQuery, null, null, new StewardLabels(), StewardMetrics.none);
+    }
+
+    ContextTrakr(Trakr trakr, TrakrQuery contextQuery, ContextSnapshot snapshot, StewardContextStore contextStore,
+                 StewardLabels labels, StewardMetrics metrics) throws TrakrException {
         super(trakr.getConnection(), trakr.getPriorityMap());
         this.trakr = trakr;
-        this.contextIssueMap = new HashMap<>();
-        for (TrakrIssue issue : trakr.searchTrakrIssues(contextQuery)) {
-            addToContext(issue);
+        this.contextQuery = contextQuery;
+        this.labels = labels;
+        this.metrics = metrics;
+        this.contextStore = contextStore;
+        this.contextIssueIndex = new TrakrIssueIndex();
+        if (snapshot != null) {
+            this.loadedAt = snapshot.getLoadedAt();
+            for (ContextSnapshot.IssueRecord record : snapshot.getIssues()) {
+                addToContext(new SnapshotIssue(this, record));
+            }
+            StewardLogger.info("Loaded " + snapshot.getIssues().size() + " issues from context snapshot of " +
+                    new Date(loadedAt));
+        } else if (contextStore != null) {
+            for (TrakrIssue issue : contextStore.search(contextQuery)) {
+                addToContext(issue);
+            }
+            this.loadedAt = contextStore.getLoadedAt();
+        } else {
+            this.loadedAt = new Date().getTime();
+            for (TrakrIssue issue : StewardTimer.time(metrics, "tracker.search",
+                    () -> trakr.searchTrakrIssues(contextQuery))) {
+                addToContext(issue);
+            }
+        }
+        metrics.increment("context.issues", contextIssueIndex.size());
+    }
+
+    StewardLabels getLabels() {
+        return labels;
+    }
+
+    boolean isOffline() {
+        return trakr instanceof OfflineTrakr;
+    }
+
+    long getLoadedAt() {
+        return loadedAt;
+    }
+
+    TrakrIssue getContextIssue(String key) {
+        if (key == null) {
+            return null;
+        }
+        return contextIssueIndex.get(key);
+    }
+
+    List<TrakrIssue> getContextIssues() {
+        return contextIssueIndex.getIssues();
+    }
+
+    private static TrakrIssue find(List<TrakrIssue> issues, String key) {
+        for (TrakrIssue issue : issues) {
+            if (key.equals(issue.getKey())) {
+                return issue;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, TrakrIssue> getReloadedIssues() throws TrakrException {
+        synchronized (this) {
+            if (reloadedIssues != null) {
+                return reloadedIssues;
+            }
         }
+        List<TrakrIssue> issues = StewardTimer.time(metrics, "tracker.search",
+                () -> trakr.searchTrakrIssues(contextQuery));
+        Map<String, TrakrIssue> issueMap = new HashMap<>();
+        for (TrakrIssue issue : issues) {
+            issueMap.put(issue.getKey(), issue);
+            if (contextIssueIndex.get(issue.getKey()) == null) {
+                addToContext(issue);
+            }
+        }
+        synchronized (this) {
+            if (reloadedIssues == null) {
+                reloadedIssues = issueMap;
+            }
+            return reloadedIssues;
+        }
+    }
+
+    TrakrIssue fetchIssue(String projectKey, String key, List<String> labels) throws TrakrException {
+        TrakrQuery query = new TrakrQuery(TrakrQuery.Condition.project, TrakrQuery.Operator.matching, projectKey);
+        if (labels != null) {
+            for (String label : labels) {
+                query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, label);
+            }
+        }
+        TrakrIssue issue = find(StewardTimer.time(metrics, "tracker.search", () -> trakr.searchTrakrIssues(query)),
+                key);
+        if (issue == null) {
+            metrics.increment("context.stale", 1);
+            issue = getReloadedIssues().get(key);
+        }
+        if (issue == null) {
+            contextIssueIndex.remove(key);
+            throw new TrakrException("Unable to find the issue " + key + " in the tracker context");
+        }
+        return issue;
+    }
+
+    int reconcile(TrakrQuery query) throws TrakrException {
+        List<TrakrIssue> issues = StewardTimer.time(metrics, "tracker.search", () -> trakr.searchTrakrIssues(query));
+        for (TrakrIssue issue : issues) {
+            addUpdatedIssue(issue);
+        }
+        return issues.size();
     }
 
     void addToContext(TrakrIssue issue) {
         if (issue != null) {
-            contextIssueMap.put(issue.getKey(), issue);
+            contextIssueIndex.put(issue instanceof ContextIssue ? issue : new ContextIssue(this, issue));
         }
     }
 
@@ -34,122 +149,34 @@ final class ContextTrakr extends Trakr {
 
     @Override
     public TrakrIssue createIssue(TrakrIssueBuilder creator) throws TrakrException {
-        TrakrIssue trakrIssue = trakr.createIssue(creator);
-        addToContext(trakrIssue);
-        return trakrIssue;
+        TrakrIssue trakrIssue = StewardTimer.time(metrics, "tracker.create", () -> trakr.createIssue(creator));
+        return addUpdatedIssue(trakrIssue);
     }
 
     @Override
     public TrakrIssue updateIssue(TrakrIssue issue, TrakrIssueBuilder updater) throws TrakrException {
-        issue = trakr.updateIssue(issue, updater);
-        addToContext(issue);
-        return issue;
-    }
-
-    private boolean isCaseInsensitiveStringInList(String str, List<String> list) {
-        for (String item : list) {
-            if (item.equalsIgnoreCase(str)) {
-                return true;
-            }
+        if (issue instanceof ContextIssue) {
+            issue = ((ContextIssue) issue).getIssue();
         }
-        return false;
-    }
-
-    private boolean isLabelsInIssue(TrakrIssue issue, List<String> labels) {
-        for (String label : labels) {
-            if (isCaseInsensitiveStringInList(label, issue.getLabels())) {
-                return true;
-            }
+        TrakrIssue trakrIssue = issue instanceof SnapshotIssue ? ((SnapshotIssue) issue).getIssue() : issue;
+        TrakrIssue updatedIssue;
+        synchronized (trakrIssue) {
+            updatedIssue = StewardTimer.time(metrics, "tracker.update", () -> trakr.updateIssue(trakrIssue, updater));
         }
-        return false;
+        return addUpdatedIssue(updatedIssue);
     }
 
-    private boolean isLabelsNotInIssue(TrakrIssue issue, List<String> labels) {
-        for (String label : labels) {
-            if (isCaseInsensitiveStringInList(label, issue.getLabels())) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private List<TrakrIssue> contextualSearch(TrakrQuery query) throws TrakrException {
-        List<TrakrIssue> filteredIssues = new ArrayList<>(contextIssueMap.values());
-        for (TrakrQuery.TrakrQueryItem queryItem : query.getQueryItems()) {
-            switch (queryItem.getCondition()) {
-                case project:
-                    List<TrakrIssue> projectFilterList = new ArrayList<>();
-                    for (TrakrIssue issue : filteredIssues) {
-                        if (queryItem.getValues().contains(issue.getProjectKey())) {
-                            projectFilterList.add(issue);
-                        }
-                    }
-                    filteredIssues = projectFilterList;
-                    break;
-                case label:
-                    List<TrakrIssue> labelFilterList = new ArrayList<>();
-                    for (TrakrIssue issue : filteredIssues) {
-                        if (null == issue.getLabels()) {
-                            issue.refresh();
-                        }
-                        switch (queryItem.getOperator()) {
-                            case matching:
-                                if (isLabelsInIssue(issue, queryItem.getValues())) {
-                                    labelFilterList.add(issue);
-                                }
-                                break;
-                            case not_matching:
-                                if (isLabelsNotInIssue(issue, queryItem.getValues())) {
-                                    labelFilterList.add(issue);
-                                }
-                                break;
-                        }
-                    }
-                    filteredIssues = labelFilterList;
-                    break;
-                case status:
-                    List<TrakrIssue> statusFilterList = new ArrayList<>();
-                    for (TrakrIssue issue : filteredIssues) {
-                        switch (queryItem.getOperator()) {
-                            case matching:
-                                if (queryItem.getValues().contains(issue.getStatus())) {
-                                    statusFilterList.add(issue);
-                                }
-                                break;
-                            case not_matching:
-                                if (!queryItem.getValues().contains(issue.getStatus())) {
-                                    statusFilterList.add(issue);
-                                }
-                                break;
-                        }
-                    }
-                    filteredIssues = statusFilterList;
-                    break;
-                case type:
-                    List<TrakrIssue> typeFilterList = new ArrayList<>();
-                    for (TrakrIssue issue : filteredIssues) {
-                        switch (queryItem.getOperator()) {
-                            case matching:
-                                if (queryItem.getValues().contains(issue.getType())) {
-                                    typeFilterList.add(issue);
-                                }
-                                break;
-                            case not_matching:
-                                if (!queryItem.getValues().contains(issue.getType())) {
-                                    typeFilterList.add(issue);
-                                }
-                                break;
-                        }
-                    }
-                    filteredIssues = typeFilterList;
-                    break;
-            }
+    private ContextIssue addUpdatedIssue(TrakrIssue trakrIssue) {
+        if (contextStore != null) {
+            contextStore.put(trakrIssue);
         }
-        return filteredIssues;
+        ContextIssue contextIssue = new ContextIssue(this, trakrIssue);
+        addToContext(contextIssue);
+        return contextIssue;
     }
 
     @Override
     public List<TrakrIssue> searchTrakrIssues(TrakrQuery query) throws TrakrException {
-        return contextualSearch(query);
+        return StewardTimer.time(metrics, "context.search", () -> contextIssueIndex.search(query));
     }
 }
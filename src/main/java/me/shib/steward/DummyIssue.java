@@ -6,11 +6,11 @@ import me.shib.lib.trakr.*;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 final class DummyIssue extends TrakrIssue {
 
-    private static final Random rand = new Random();
+    private static final AtomicInteger issueCount = new AtomicInteger(1000000);
 
     private transient String projectKey;
     private transient String key;
@@ -20,47 +20,24 @@ final class DummyIssue extends TrakrIssue {
     private transient String status;
     private transient TrakrPriority priority;
     private transient Date date;
-    private transient TrakrIssue realIssue;
-    private transient TrakrIssueBuilder creator;
+    private transient List<String> labels;
 
     DummyIssue(Trakr trakr, TrakrIssueBuilder creator) {
         super(trakr);
-        this.creator = creator;
-        init(trakr);
-    }
-
-    DummyIssue(Trakr trakr, TrakrIssue issue) {
-        super(trakr);
-        this.realIssue = issue;
-        init(trakr);
-    }
-
-    private void init(Trakr trakr) {
         this.date = new Date();
-        if (creator != null) {
-            this.projectKey = "DUMMY-" + creator.getProject();
-            this.key = projectKey + "-" + rand.nextInt(1000000) + 1000000;
-            this.title = creator.getTitle();
-            this.description = creator.getDescription().getContent(trakr.getContentType());
-            this.type = creator.getIssueType();
-            this.status = creator.getStatus();
-            this.priority = creator.getPriority();
-        } else {
-            this.projectKey = "DUMMY-" + realIssue.getProjectKey();
-            this.key = "DUMMY-" + realIssue.getKey();
-            this.title = realIssue.getTitle();
-            this.description = realIssue.getDescription();
-            this.type = realIssue.getType();
-            this.status = realIssue.getStatus();
-            this.priority = realIssue.getPriority();
-        }
+        this.projectKey = "DUMMY-" + creator.getProject();
+        this.key = projectKey + "-" + issueCount.incrementAndGet();
+        this.title = creator.getTitle();
+        this.description = creator.getDescription() != null ?
+                creator.getDescription().getContent(trakr.getContentType()) : null;
+        this.type = creator.getIssueType();
+        this.status = creator.getStatus();
+        this.priority = creator.getPriority();
+        this.labels = creator.getLabels() != null ? new ArrayList<>(creator.getLabels()) : new ArrayList<>();
     }
 
     @Override
-    public void refresh() throws TrakrException {
-        if (realIssue != null) {
-            realIssue.refresh();
-        }
+    public void refresh() {
     }
 
     @Override
@@ -100,25 +77,16 @@ final class DummyIssue extends TrakrIssue {
 
     @Override
     public Date getCreatedDate() {
-        if (null != realIssue) {
-            return realIssue.getCreatedDate();
-        }
         return date;
     }
 
     @Override
     public Date getUpdatedDate() {
-        if (null != realIssue) {
-            return realIssue.getUpdatedDate();
-        }
         return date;
     }
 
     @Override
     public Date getDueDate() {
-        if (null != realIssue) {
-            return realIssue.getDueDate();
-        }
         return date;
     }
 
@@ -143,25 +111,16 @@ final class DummyIssue extends TrakrIssue {
 
     @Override
     public TrakrUser getReporter() {
-        if (null != realIssue) {
-            return realIssue.getReporter();
-        }
         return getDummyUser();
     }
 
     @Override
     public TrakrUser getAssignee() {
-        if (null != realIssue) {
-            return realIssue.getAssignee();
-        }
         return getDummyUser();
     }
 
     @Override
     public List<TrakrUser> getSubscribers() {
-        if (null != realIssue) {
-            return realIssue.getSubscribers();
-        }
         List<TrakrUser> users = new ArrayList<>();
         users.add(getDummyUser());
         return users;
@@ -169,25 +128,16 @@ final class DummyIssue extends TrakrIssue {
 
     @Override
     public List<String> getLabels() {
-        if (null != realIssue) {
-            return realIssue.getLabels();
-        }
-        return new ArrayList<>();
+        return labels;
     }
 
     @Override
     public Object getCustomField(String identifier) {
-        if (null != realIssue) {
-            return realIssue.getCustomField(identifier);
-        }
         return null;
     }
 
     @Override
-    public List<TrakrComment> getComments() throws TrakrException {
-        if (null != realIssue) {
-            return realIssue.getComments();
-        }
+    public List<TrakrComment> getComments() {
         return new ArrayList<>();
     }
 
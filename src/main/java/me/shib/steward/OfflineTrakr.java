@@ -0,0 +1,41 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.util.List;
+import java.util.Map;
+
+final class OfflineTrakr extends Trakr {
+
+    private final transient TrakrContent.Type contentType;
+
+    OfflineTrakr(Map<TrakrPriority, String> priorityMap, TrakrContent.Type contentType) {
+        super(new Trakr.Connection("offline://steward", "steward"), priorityMap);
+        this.contentType = contentType;
+    }
+
+    private static TrakrException offline(String operation) {
+        return new TrakrException("Unable to " + operation + " while running offline");
+    }
+
+    @Override
+    public TrakrContent.Type getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public TrakrIssue createIssue(TrakrIssueBuilder creator) throws TrakrException {
+        throw offline("create an issue");
+    }
+
+    @Override
+    public TrakrIssue updateIssue(TrakrIssue issue, TrakrIssueBuilder updater) throws TrakrException {
+        throw offline("update " + issue.getKey());
+    }
+
+    @Override
+    public List<TrakrIssue> searchTrakrIssues(TrakrQuery query) throws TrakrException {
+        throw offline("search the tracker");
+    }
+
+}
@@ -0,0 +1,154 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+final class SnapshotIssue extends TrakrIssue {
+
+    private final transient ContextTrakr trakr;
+    private final transient ContextSnapshot.IssueRecord record;
+    private transient TrakrIssue issue;
+
+    SnapshotIssue(ContextTrakr trakr, ContextSnapshot.IssueRecord record) {
+        super(trakr);
+        this.trakr = trakr;
+        this.record = record;
+    }
+
+    TrakrIssue getIssue() throws TrakrException {
+        TrakrIssue fetchedIssue;
+        boolean fetched = false;
+        synchronized (this) {
+            if (issue == null) {
+                issue = trakr.fetchIssue(record.getProjectKey(), record.getKey(), record.getLabels());
+                fetched = true;
+            }
+            fetchedIssue = issue;
+        }
+        if (fetched) {
+            trakr.addToContext(this);
+        }
+        return fetchedIssue;
+    }
+
+    private synchronized TrakrIssue getFetchedIssue() {
+        return issue;
+    }
+
+    @Override
+    public void refresh() throws TrakrException {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        if (fetchedIssue == null) {
+            getIssue();
+        } else {
+            fetchedIssue.refresh();
+        }
+        trakr.addToContext(this);
+    }
+
+    @Override
+    public String getKey() {
+        return record.getKey();
+    }
+
+    @Override
+    public String getProjectKey() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getProjectKey() : record.getProjectKey();
+    }
+
+    @Override
+    public String getTitle() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getTitle() : record.getTitle();
+    }
+
+    @Override
+    public String getDescription() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getDescription() : record.getDescription();
+    }
+
+    @Override
+    public String getType() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getType() : record.getType();
+    }
+
+    @Override
+    public String getStatus() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getStatus() : record.getStatus();
+    }
+
+    @Override
+    public TrakrPriority getPriority() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getPriority() : record.getPriority();
+    }
+
+    @Override
+    public Date getCreatedDate() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getCreatedDate() : record.getCreatedDate();
+    }
+
+    @Override
+    public Date getUpdatedDate() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getUpdatedDate() : record.getUpdatedDate();
+    }
+
+    @Override
+    public Date getDueDate() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getDueDate() : record.getDueDate();
+    }
+
+    @Override
+    public TrakrUser getReporter() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getReporter() : record.getReporter();
+    }
+
+    @Override
+    public TrakrUser getAssignee() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getAssignee() : record.getAssignee();
+    }
+
+    @Override
+    public List<TrakrUser> getSubscribers() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getSubscribers() : new ArrayList<>();
+    }
+
+    @Override
+    public List<String> getLabels() {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getLabels() : record.getLabels();
+    }
+
+    @Override
+    public Object getCustomField(String identifier) {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        return fetchedIssue != null ? fetchedIssue.getCustomField(identifier) : null;
+    }
+
+    @Override
+    public List<TrakrComment> getComments() throws TrakrException {
+        TrakrIssue fetchedIssue = getFetchedIssue();
+        if (fetchedIssue == null && trakr.isOffline()) {
+            return new ArrayList<>();
+        }
+        return (fetchedIssue != null ? fetchedIssue : getIssue()).getComments();
+    }
+
+    @Override
+    public TrakrComment addComment(TrakrContent comment) throws TrakrException {
+        return getIssue().addComment(comment);
+    }
+}
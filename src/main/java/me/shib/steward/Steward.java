@@ -2,356 +2,307 @@ package me.shib.steward;
 
 import me.shib.lib.trakr.*;
 
+import java.io.File;
 import java.util.*;
 
 public final class Steward {
 
+    private static final int planRoundSize = 1000;
+
     private transient final StewardExecutionResult executionResult;
 
     private final StewardConfig config;
-    private final Trakr tracker;
+    private final StewardStateStore stateStore;
+    private final StewardLabels labels;
+    private final ContextTrakr contextTracker;
     private final StewardData data;
+    private final StewardCommentCache commentCache;
+    private final StewardFingerprints fingerprints;
+    private final StewardJournal journal;
+    private final StewardPlanner planner;
+    private final StewardPlanExecutor planExecutor;
+    private final StewardMetrics metrics;
 
-    private Steward(StewardData data, StewardConfig config, StewardExecutionResult executionResult) throws StewardException {
+    private Steward(StewardData data, StewardConfig config, StewardExecutionResult executionResult, Trakr trakr,
+                    StewardContextStore contextStore) throws StewardException {
         this.executionResult = executionResult;
+        this.metrics = executionResult.getMetrics();
         this.data = data;
         this.config = config;
-        this.tracker = getContextTracker();
+        this.stateStore = StewardStateStore.getStore(config);
+        this.labels = new StewardLabels();
+        this.contextTracker = getContextTracker(trakr, contextStore);
+        if (config.isDryRun()) {
+            StewardLogger.info("Dry-run enabled, the planned changes will not be applied to the tracker.");
+        }
+        this.commentCache = new StewardCommentCache(stateStore, data, metrics, config.isOffline());
+        this.fingerprints = StewardFingerprints.load(stateStore, data, config);
+        this.journal = StewardJournal.open(stateStore, data, config);
+        if (journal != null) {
+            journal.recover(contextTracker, config, data);
+        }
+        this.planner = new StewardPlanner(data, config, contextTracker, commentCache, fingerprints, journal,
+                StewardDuplicates.detect(contextTracker, data, config, metrics), executionResult);
+        this.planExecutor = new StewardPlanExecutor(config, contextTracker,
+                new StewardTransitionExecutor(contextTracker, config.getCompiledWorkflow(), metrics), commentCache,
+                fingerprints, journal, executionResult);
     }
 
     public static StewardExecutionResult process(StewardData data, StewardConfig config) throws StewardException {
+        return process(data, config, null);
+    }
+
+    static StewardExecutionResult process(StewardData data, StewardConfig config, Trakr trakr)
+            throws StewardException {
+        logFindingCount(data);
+        return process(data, data.getFindings().iterator(), config, trakr);
+    }
+
+    public static StewardExecutionResult process(StewardData data, Iterator<StewardFinding> findings,
+                                                 StewardConfig config) throws StewardException {
+        return process(data, findings, config, null);
+    }
+
+    static StewardExecutionResult process(StewardData data, Iterator<StewardFinding> findings,
+                                          StewardConfig config, Trakr trakr) throws StewardException {
         StewardExecutionResult executionResult = new StewardExecutionResult();
+        Exception failure = null;
         try {
-            System.out.println("Findings Identified in " + data.getProjectName() + " [" +
-                    data.getToolName() + "]: " + data.getFindings().size());
             if (config != null) {
-                Steward steward = new Steward(data, config, executionResult);
-                steward.autoResolveIssuesNotInFindings();
-                if (!config.isFindingsToIssuesSyncDisabled()) {
-                    steward.syncFindingsToIssues();
-                }
-                executionResult.summarizeCount();
-                Integer exitCode = null;
-                if (executionResult.getExceptions().size() > 0 && config.getExitCodeOnFailure() != null) {
-                    System.out.println("Failure detected. Exiting (" + config.getExitCodeOnFailure() + ").");
-                    exitCode = config.getExitCodeOnFailure();
-                } else if (executionResult.getCreated() > 0 && config.getExitCodeOnNewIssues() != null) {
-                    System.out.println("New issues found. Exiting (" + config.getExitCodeOnNewIssues() + ").");
-                    exitCode = config.getExitCodeOnNewIssues();
-                }
-                if (exitCode != null) {
-                    System.exit(exitCode);
-                } else if (executionResult.getFindings() > 0 && config.getExitCodeOnIssues() != null) {
-                    System.out.println("Unresolved issues found. Exiting (" + config.getExitCodeOnIssues() + ").");
-                    System.exit(config.getExitCodeOnIssues());
-                }
+                prepare(config, executionResult);
+                execute(data, findings, config, trakr, null, executionResult);
             }
         } catch (Exception e) {
-            if (config != null && config.getExitCodeOnFailure() != null) {
-                e.printStackTrace();
-                System.out.println("Failure detected. Exiting (" + config.getExitCodeOnFailure() + ").");
-                System.exit(config.getExitCodeOnFailure());
-            } else {
-                e.printStackTrace();
-                throw new StewardException(e);
-            }
+            failure = e;
         }
-        System.out.println(executionResult);
-        return executionResult;
+        return complete(config, executionResult, failure);
     }
 
     public static StewardExecutionResult process(StewardData data) throws StewardException {
         return process(data, StewardConfig.getConfig());
     }
 
-    private Trakr getContextTracker() throws StewardException {
+    public static StewardExecutionResult processAll(Collection<StewardData> dataList, StewardConfig config)
+            throws StewardException {
+        return processAll(dataList, config, null);
+    }
+
+    static StewardExecutionResult processAll(Collection<StewardData> dataList, StewardConfig config,
+                                             Trakr trakr) throws StewardException {
+        StewardExecutionResult executionResult = new StewardExecutionResult();
+        Exception failure = null;
         try {
-            TrakrQuery query = new TrakrQuery();
-            query.add(TrakrQuery.Condition.project, TrakrQuery.Operator.matching, config.getProjectKey());
-            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
-            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
-            for (String key : data.getContexts()) {
-                query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, key);
-            }
-            Trakr trakr = Trakr.getTrakr(config.getTrackerName(), config.getConnection(),
-                    config.getPriorityMap());
-            trakr = new ContextTrakr(trakr, query);
-            if (config.isDryRun()) {
-                trakr = new DummyTrakr(trakr);
+            if (config != null) {
+                prepare(config, executionResult);
+                Trakr sharedTrakr = config.isOffline() ? trakr : ThrottledTrakr.wrap(trakr != null ? trakr :
+                        Trakr.getTrakr(config.getTrackerName(), config.getConnection(), config.getPriorityMap()),
+                        config, executionResult.getMetrics());
+                StewardContextStore contextStore = config.isOffline() ? null : StewardContextStore.create(
+                        sharedTrakr, config, dataList, executionResult.getMetrics());
+                StewardWorkers.run("project", dataList.iterator(), config.getProjectConcurrency(), data -> {
+                    StewardExecutionResult projectResult = new StewardExecutionResult();
+                    projectResult.setMetrics(executionResult.getMetrics());
+                    try {
+                        logFindingCount(data);
+                        execute(data, data.getFindings().iterator(), config, sharedTrakr, contextStore,
+                                projectResult);
+                    } catch (Exception e) {
+                        StewardLogger.error(e);
+                        projectResult.addException(e);
+                    }
+                    executionResult.merge(projectResult);
+                });
             }
-            return trakr;
-        } catch (TrakrException e) {
-            throw new StewardException(e);
+        } catch (Exception e) {
+            failure = e;
         }
+        return complete(config, executionResult, failure);
     }
 
-    private StewardIssueLifeCycle createIssueForFinding(StewardFinding finding) throws TrakrException {
-        Set<String> labels = new LinkedHashSet<>();
-        labels.add(data.getProjectName());
-        labels.add(data.getToolName());
-        labels.addAll(data.getContexts());
-        labels.addAll(data.getTags());
-        labels.addAll(finding.getContexts());
-        labels.addAll(finding.getTags());
-        TrakrIssueBuilder issueBuilder = new TrakrIssueBuilder();
-        issueBuilder.setProject(config.getProjectKey());
-        issueBuilder.setTitle(finding.getTitle());
-        issueBuilder.setIssueType(config.getIssueType());
-        issueBuilder.setAssignee(finding.getAssignee(config));
-        issueBuilder.setPriority(finding.getPriority());
-        issueBuilder.setDescription(new TrakrContent(finding.getDescription()));
-        issueBuilder.setLabels(new ArrayList<>(labels));
-        TrakrIssue issue = tracker.createIssue(issueBuilder);
-        System.out.println("\nCreated new issue: " + issue);
-        StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, true);
-        issueLifeCycle.setCreated();
-        return issueLifeCycle;
+    private static void logFindingCount(StewardData data) {
+        StewardLogger.info("Findings Identified in " + data.getProjectName() + " [" +
+                data.getToolName() + "]: " + data.getFindings().size());
     }
 
-    private StewardIssueLifeCycle syncFindingIntoIssue(TrakrIssue issue, StewardFinding finding)
-            throws TrakrException {
-        StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, true);
-        if (config.isIssueCompletelyIgnorable(issue)) {
-            System.out.println("Ignoring the issue: " + issue.getKey());
-            issueLifeCycle.setIgnored();
-            return issueLifeCycle;
-        }
-        TrakrIssueBuilder issueBuilder = new TrakrIssueBuilder();
-        issueBuilder.setProject(config.getProjectKey());
-        if (issue.getAssignee() == null && finding.getAssignee(config) != null) {
-            issueBuilder.setAssignee(finding.getAssignee(config));
-            issueLifeCycle.setAssigned();
+    private static void prepare(StewardConfig config, StewardExecutionResult executionResult) {
+        if (config.getLogLevel() != null) {
+            StewardLogger.setLevel(config.getLogLevel());
         }
-        if (config.isUpdateTitle() && !issue.getTitle().contentEquals(finding.getTitle())) {
-            issueBuilder.setTitle(finding.getTitle());
-            issueLifeCycle.setTitleUpdated();
+        executionResult.setMetrics(createMetrics(config));
+    }
+
+    private static void execute(StewardData data, Iterator<StewardFinding> findings, StewardConfig config,
+                                Trakr trakr, StewardContextStore contextStore,
+                                StewardExecutionResult executionResult) throws StewardException {
+        StewardMetrics metrics = executionResult.getMetrics();
+        long startTime = System.nanoTime();
+        Steward steward = StewardTimer.time(metrics, "phase.context",
+                () -> new Steward(data, config, executionResult, trakr, contextStore));
+        StewardFindingIndex findingIndex = new StewardFindingIndex(steward.labels);
+        StewardFindingSource findingSource = new StewardFindingSource(steward.labels, data, findings, findingIndex);
+        try {
+            steward.sync(findingSource);
+            steward.resolve(findingIndex);
+            StewardTimer.run(metrics, "phase.save", steward::saveState);
+        } finally {
+            steward.closeJournal();
         }
-        if (config.isUpdateDescription() &&
-                !tracker.areContentsMatching(new TrakrContent(finding.getDescription()),
-                        issue.getDescription())) {
-            issueBuilder.setDescription(new TrakrContent(finding.getDescription()));
-            issueLifeCycle.setDescriptionUpdated();
+        metrics.record("phase.total", System.nanoTime() - startTime, false);
+    }
+
+    private static StewardExecutionResult complete(StewardConfig config, StewardExecutionResult executionResult,
+                                                   Exception failure) throws StewardException {
+        exportMetrics(config, executionResult);
+        if (config != null && config.getPlanFile() != null && !config.getPlanFile().isEmpty()) {
+            StewardPlan.export(new File(config.getPlanFile()), executionResult.getPlans());
         }
-        if (config.isUpdateLabels()) {
-            Set<String> newSet = new HashSet<>(issue.getLabels());
-            newSet.addAll(finding.getContexts());
-            newSet.addAll(finding.getTags());
-            if (newSet.size() != issue.getLabels().size()) {
-                issueBuilder.setLabels(new ArrayList<>(newSet));
-                issueLifeCycle.setLabelsUpdated();
+        if (failure != null) {
+            StewardLogger.error(failure);
+            if (config != null && config.getExitCodeOnFailure() != null) {
+                exit("Failure detected.", config.getExitCodeOnFailure());
             }
+            StewardLogger.flush();
+            throw new StewardException(failure);
         }
-        StringBuilder comment = new StringBuilder();
-        if (!config.isPriorityChangeIgnored(issue) && (issue.getPriority() == null || (issue.getPriority().getRank() < finding.getPriority().getRank() && config.isPrioritizeDown())
-                || (issue.getPriority().getRank() > finding.getPriority().getRank() && config.isPrioritizeUp()))) {
-            issueBuilder.setPriority(finding.getPriority());
-            System.out.println("Prioritizing " + issue.getKey() + " to " + tracker.getPriorityName(finding.getPriority()) + " based on actual priority.");
-            comment.append("Prioritizing to **").append(tracker.getPriorityName(finding.getPriority())).append("** based on actual priority.");
-            issueLifeCycle.setPriorityUpdated();
-        }
-        if (issueLifeCycle.isUpdated()) {
-            issue = tracker.updateIssue(issue, issueBuilder);
-            if (!comment.toString().isEmpty()) {
-                issue.addComment(new TrakrContent(comment.toString()));
-                issueLifeCycle.setCommented();
+        if (config != null) {
+            executionResult.summarizeCount();
+            if (executionResult.getExceptions().size() > 0 && config.getExitCodeOnFailure() != null) {
+                exit("Failure detected.", config.getExitCodeOnFailure());
+            } else if (executionResult.getCreated() > 0 && config.getExitCodeOnNewIssues() != null) {
+                exit("New issues found.", config.getExitCodeOnNewIssues());
+            } else if (executionResult.getFindings() > 0 && config.getExitCodeOnIssues() != null) {
+                exit("Unresolved issues found.", config.getExitCodeOnIssues());
             }
         }
-        if (config.isReOpeningAllowedForStatus(issue.getStatus())) {
-            reopenIssue(issueLifeCycle);
-        } else if (issueLifeCycle.isUpdated()) {
-            System.out.println("\nUpdated the issue: " + issue);
-        } else {
-            System.out.println("\nIssue up-to date: " + issue);
-        }
-        return issueLifeCycle;
+        StewardLogger.info(executionResult::toString);
+        StewardLogger.flush();
+        return executionResult;
     }
 
-    private Set<String> toLowerCaseSet(Collection<String> list) {
-        Set<String> lowerCaseSet = new HashSet<>();
-        for (String item : list) {
-            if (item != null) {
-                lowerCaseSet.add(item.toLowerCase());
-            }
-        }
-        return lowerCaseSet;
+    private static void exit(String reason, int exitCode) {
+        StewardLogger.info(reason + " Exiting (" + exitCode + ").");
+        StewardLogger.flush();
+        System.exit(exitCode);
     }
 
-    private boolean isVulnerabilityExists(TrakrIssue issue, List<StewardFinding> findings) {
-        Set<String> lowerCaseIssueLabelsList = toLowerCaseSet(issue.getLabels());
-        for (StewardFinding finding : findings) {
-            if (lowerCaseIssueLabelsList.containsAll(toLowerCaseSet(finding.getContexts()))) {
-                return true;
-            }
+    private static StewardMetrics createMetrics(StewardConfig config) {
+        if (config.getMetrics() != null) {
+            return config.getMetrics();
         }
-        return false;
+        if (config.getMetricsFile() != null && !config.getMetricsFile().isEmpty()) {
+            return new StewardMetricsRegistry();
+        }
+        return StewardMetrics.none;
     }
 
-    private void resolveIssue(StewardIssueLifeCycle issueLifeCycle) throws TrakrException {
-        TrakrIssue issue = issueLifeCycle.getIssue();
-        if (!config.isAutoResolveAllowedForStatus(issue.getStatus())) {
-            System.out.println("Ignoring auto-resolution for the issue: " + issue.getKey());
-            issueLifeCycle.setIgnored();
-            return;
-        }
-        System.out.println("Issue: " + issue.getKey() + " was found to be fixed, but hasn't been moved to resolved.");
-        boolean transitioned = false;
-        String originalStatus = issue.getStatus();
-        if (config.getAutoResolve().isTransition(issue)) {
-            List<String> transitions = config.getTransitionsToClose(issue.getStatus());
-            System.out.println("Closing the issue " + issue.getKey() + ".");
-            transitioned = transitionIssue(transitions, issueLifeCycle);
-            if (!transitioned) {
-                System.out.println("No path defined to Close the issue from \"" + issue.getStatus() + "\" state.");
-            }
-        }
-        StringBuilder comment = new StringBuilder();
-        if (config.getAutoResolve().isCommentable(issue, new TrakrContent(StewardConfig.issueFixedComment))) {
-            comment.append("\n").append(StewardConfig.issueFixedComment);
-            if (!transitioned) {
-                comment.append("\n").append(StewardConfig.resolveRequestComment);
-            }
-        }
-        if (transitioned) {
-            if (!comment.toString().isEmpty()) {
-                comment.append("\n");
-            }
-            if (!config.isResolvedStatus(originalStatus)) {
-                comment.append(StewardConfig.autoResolvingNotificationComment + "\n");
-            }
-            comment.append(StewardConfig.closingNotificationComment);
-            issueLifeCycle.setResolved();
-        }
-        if (!comment.toString().isEmpty()) {
-            issue.addComment(new TrakrContent(comment.toString()));
-            issueLifeCycle.setCommented();
+    private static void exportMetrics(StewardConfig config, StewardExecutionResult executionResult) {
+        if (config != null && config.getMetricsFile() != null && !config.getMetricsFile().isEmpty() &&
+                executionResult.getMetrics() instanceof StewardMetricsRegistry) {
+            ((StewardMetricsRegistry) executionResult.getMetrics())
+                    .export(new File(config.getMetricsFile()), executionResult);
         }
     }
 
-    private void reopenIssue(StewardIssueLifeCycle issueLifeCycle) throws TrakrException {
-        TrakrIssue issue = issueLifeCycle.getIssue();
-        System.out.println("Issue: " + issue.getKey() + " was resolved, but not actually fixed.");
-        boolean transitioned = false;
-        if (config.getAutoReopen().isTransition(issue)) {
-            List<String> transitions = config.getTransitionsToOpen(issue.getStatus());
-            System.out.println("Reopening the issue " + issue.getKey() + ":");
-            transitioned = transitionIssue(transitions, issueLifeCycle);
-            if (!transitioned) {
-                System.out.println("No path defined to Open the issue from \"" + issue.getStatus() + "\" state.");
+    private void saveState() {
+        if (!config.isDryRun()) {
+            commentCache.save();
+            if (stateStore != null && config.getContextSnapshotMaxAge() > 0) {
+                ContextSnapshot.save(stateStore, data, getContextHash(), contextTracker);
             }
-        }
-        StringBuilder comment = new StringBuilder();
-        if (config.getAutoReopen().isCommentable(issue, new TrakrContent(StewardConfig.issueNotFixedComment))) {
-            comment.append(StewardConfig.issueNotFixedComment);
-            if (!transitioned) {
-                comment.append("\n").append(StewardConfig.reopenRequestComment);
+            if (fingerprints != null) {
+                fingerprints.save(contextTracker);
             }
-        }
-        if (transitioned) {
-            if (!comment.toString().isEmpty()) {
-                comment.append("\n");
+            if (journal != null) {
+                journal.complete();
             }
-            comment.append(StewardConfig.reopeningNotificationComment);
-            issueLifeCycle.setReOpened();
         }
-        if (!comment.toString().isEmpty()) {
-            issue.addComment(new TrakrContent(comment.toString()));
-            issueLifeCycle.setCommented();
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            journal.close();
         }
     }
 
-    private boolean transitionIssue(List<String> transitions, StewardIssueLifeCycle issueLifeCycle) {
-        TrakrIssue issue = issueLifeCycle.getIssue();
+    private String getContextHash() {
+        return StewardStateStore.getHash(String.valueOf(config.getTrackerName()), config.getProjectKey(),
+                data.getProjectName(), data.getToolName(), String.join("\n", new TreeSet<>(data.getContexts())));
+    }
+
+    private ContextTrakr getContextTracker(Trakr trakr, StewardContextStore contextStore) throws StewardException {
         try {
-            if (transitions.size() > 1) {
-                StringBuilder consoleLog = new StringBuilder();
-                consoleLog.append("Transitioning the issue ")
-                        .append(issue.getKey()).append(": ").append(transitions.get(0));
-                for (int i = 1; i < transitions.size(); i++) {
-                    consoleLog.append(" -> ").append(transitions.get(i));
-                    TrakrIssueBuilder moveStatus = new TrakrIssueBuilder();
-                    moveStatus.setStatus(transitions.get(i));
-                    tracker.updateIssue(issue, moveStatus);
-                }
-                System.out.println(consoleLog);
-                return true;
+            TrakrQuery query = new TrakrQuery();
+            query.add(TrakrQuery.Condition.project, TrakrQuery.Operator.matching, config.getProjectKey());
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
+            for (String key : data.getContexts()) {
+                query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, key);
             }
-        } catch (Exception e) {
-            issueLifeCycle.addException(e);
+            ContextSnapshot snapshot = ContextSnapshot.load(stateStore, data, getContextHash(),
+                    config.isOffline() ? Long.MAX_VALUE : config.getContextSnapshotMaxAge());
+            if (snapshot != null && snapshot.getContentType() != null && config.isOffline()) {
+                return new ContextTrakr(new OfflineTrakr(config.getPriorityMap(), snapshot.getContentType()), query,
+                        snapshot, null, labels, metrics);
+            }
+            if (config.isOffline()) {
+                StewardLogger.warn("No saved context for " + data.getProjectName() +
+                        ", loading it once from the tracker");
+                snapshot = null;
+            }
+            if (trakr == null) {
+                trakr = Trakr.getTrakr(config.getTrackerName(), config.getConnection(),
+                        config.getPriorityMap());
+            }
+            trakr = ThrottledTrakr.wrap(trakr, config, metrics);
+            ContextTrakr contextTrakr = new ContextTrakr(trakr, query, snapshot, contextStore, labels,
+                    metrics);
+            if (config.isOffline() && stateStore != null) {
+                ContextSnapshot.save(stateStore, data, getContextHash(), contextTrakr);
+            }
+            return contextTrakr;
+        } catch (TrakrException e) {
+            throw new StewardException(e);
         }
-        return false;
     }
 
-    private StewardIssueLifeCycle syncFinding(StewardFinding finding) throws StewardException, TrakrException {
-        StewardIssueLifeCycle issueLifeCycle;
-        TrakrQuery searchQuery = new TrakrQuery(TrakrQuery.Condition.type, TrakrQuery.Operator.matching, config.getIssueType());
-        searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
-        searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
-        for (String context : finding.getContexts()) {
-            searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, context);
+    private void sync(StewardFindingSource findingSource) throws StewardException {
+        if (config.isFindingsToIssuesSyncDisabled()) {
+            findingSource.drain();
+            return;
         }
-        List<TrakrIssue> issues = tracker.searchTrakrIssues(searchQuery);
-        if (issues.size() == 0) {
-            issueLifeCycle = createIssueForFinding(finding);
-        } else if (issues.size() == 1) {
-            issueLifeCycle = syncFindingIntoIssue(issues.get(0), finding);
-        } else {
-            throw new StewardException("More than one issue listed:\n"
-                    + "Labels: " + Arrays.toString(finding.getContexts().toArray()) + "\n"
-                    + "Issues: " + Arrays.toString(issues.toArray()));
+        StewardLogger.info("\nProcessing scanned results...");
+        List<StewardFinding> findings = new ArrayList<>();
+        while (!findings.isEmpty() || findingSource.hasNext()) {
+            while (findings.size() < planRoundSize && findingSource.hasNext()) {
+                findings.add(findingSource.next());
+            }
+            List<StewardFinding> roundFindings = findings;
+            StewardPlan plan = StewardTimer.time(metrics, "phase.plan", () -> planner.planFindings(roundFindings));
+            emit(plan);
+            if (config.isDryRun()) {
+                planExecutor.report(plan);
+            } else {
+                StewardTimer.run(metrics, "phase.sync", () -> planExecutor.applyFindingChanges(plan));
+            }
+            findings = planner.getDeferredFindings();
         }
-        return issueLifeCycle;
+        StewardLogger.info("Findings processed: " + findingSource.getCount());
     }
 
-    private void syncFindingsToIssues() {
-        System.out.println("\nProcessing scanned results...");
-        for (StewardFinding finding : data.getFindings()) {
-            try {
-                executionResult.addIssueLifeCycle(syncFinding(finding));
-            } catch (StewardException | TrakrException e) {
-                e.printStackTrace();
-                executionResult.addException(e);
-            }
+    private void resolve(StewardFindingIndex findingIndex) throws StewardException {
+        StewardPlan plan = StewardTimer.time(metrics, "phase.plan", () -> planner.planResolves(findingIndex));
+        emit(plan);
+        if (config.isDryRun()) {
+            planExecutor.report(plan);
+        } else {
+            StewardTimer.run(metrics, "phase.resolve", () -> planExecutor.applyResolveChanges(plan));
         }
     }
 
-    private void autoResolveIssuesNotInFindings() throws StewardException {
-        try {
-            if (config.isAutoResolveAllowed()) {
-                System.out.println("\nVerifying if any existing issues are fixed...");
-                TrakrQuery searchQuery = new TrakrQuery(TrakrQuery.Condition.type, TrakrQuery.Operator.matching, config.getIssueType());
-                searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
-                searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
-                for (String context : data.getContexts()) {
-                    searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, context);
-                }
-                searchQuery.add(TrakrQuery.Condition.status, TrakrQuery.Operator.not_matching, config.getClosedStatuses());
-                List<TrakrIssue> issues = tracker.searchTrakrIssues(searchQuery);
-                int count = 0;
-                for (TrakrIssue issue : issues) {
-                    StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, false);
-                    if (!config.isIssueCompletelyIgnorable(issue)) {
-                        try {
-                            if (!isVulnerabilityExists(issue, data.getFindings())) {
-                                count++;
-                                resolveIssue(issueLifeCycle);
-                                if (!issueLifeCycle.isResolved()) {
-                                    System.out.println(issue.getKey() + ": Auto-resolution was not done.");
-                                }
-                            }
-                        } catch (Exception e) {
-                            e.printStackTrace();
-                            issueLifeCycle.addException(e);
-                        }
-                    } else {
-                        issueLifeCycle.setIgnored();
-                    }
-                }
-                if (count == 0) {
-                    System.out.println("No relevant issues found to resolve/close.");
-                }
-            }
-        } catch (TrakrException e) {
-            throw new StewardException(e);
+    private void emit(StewardPlan plan) {
+        StewardLogger.info(plan::toString);
+        if (config.getPlanFile() != null && !config.getPlanFile().isEmpty()) {
+            executionResult.addPlan(plan);
         }
     }
 
@@ -0,0 +1,209 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrPriority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class StewardChange {
+
+    private final Type type;
+    private final String issueKey;
+    private final String status;
+    private final String title;
+    private final String description;
+    private final TrakrPriority priority;
+    private final String assignee;
+    private final List<String> labels;
+    private final String comment;
+    private final List<String> transitions;
+    private final String statusComment;
+    private final String transitionedComment;
+    private final String notTransitionedComment;
+    private final transient TrakrIssue issue;
+    private final transient StewardJournal.Entry journalEntry;
+    private final transient String signature;
+    private final transient String fingerprint;
+
+    private StewardChange(Builder builder) {
+        this.type = builder.type;
+        this.issueKey = builder.issue != null ? builder.issue.getKey() : null;
+        this.status = builder.issue != null ? builder.issue.getStatus() : null;
+        this.title = builder.title;
+        this.description = builder.description;
+        this.priority = builder.priority;
+        this.assignee = builder.assignee;
+        this.labels = builder.labels != null ? Collections.unmodifiableList(new ArrayList<>(builder.labels)) : null;
+        this.comment = builder.comment;
+        this.transitions = builder.transitions != null ?
+                Collections.unmodifiableList(new ArrayList<>(builder.transitions)) : null;
+        this.statusComment = builder.statusComment;
+        this.transitionedComment = builder.transitionedComment;
+        this.notTransitionedComment = builder.notTransitionedComment;
+        this.issue = builder.issue;
+        this.journalEntry = builder.journalEntry;
+        this.signature = builder.signature;
+        this.fingerprint = builder.fingerprint;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    String getIssueKey() {
+        return issueKey;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    TrakrPriority getPriority() {
+        return priority;
+    }
+
+    String getAssignee() {
+        return assignee;
+    }
+
+    List<String> getLabels() {
+        return labels;
+    }
+
+    String getComment() {
+        return comment;
+    }
+
+    List<String> getTransitions() {
+        return transitions;
+    }
+
+    TrakrIssue getIssue() {
+        return issue;
+    }
+
+    StewardJournal.Entry getJournalEntry() {
+        return journalEntry;
+    }
+
+    String getSignature() {
+        return signature;
+    }
+
+    String getFingerprint() {
+        return fingerprint;
+    }
+
+    boolean isFieldUpdate() {
+        return title != null || description != null || priority != null || assignee != null || labels != null;
+    }
+
+    boolean isTransition() {
+        return transitions != null && transitions.size() > 1;
+    }
+
+    String getStatusComment(boolean transitioned) {
+        StringBuilder statusComment = new StringBuilder();
+        if (this.statusComment != null) {
+            statusComment.append(this.statusComment);
+        }
+        if (transitioned) {
+            if (statusComment.length() > 0) {
+                statusComment.append("\n");
+            }
+            statusComment.append(transitionedComment);
+        } else if (notTransitionedComment != null) {
+            statusComment.append(notTransitionedComment);
+        }
+        return statusComment.toString();
+    }
+
+    String getSortKey() {
+        return type + "\n" + (issueKey != null ? issueKey : title);
+    }
+
+    enum Type {
+        create, update, reopen, resolve
+    }
+
+    static final class Builder {
+
+        private final Type type;
+        private final TrakrIssue issue;
+        private StewardJournal.Entry journalEntry;
+        private String signature;
+        private String fingerprint;
+        private String title;
+        private String description;
+        private TrakrPriority priority;
+        private String assignee;
+        private List<String> labels;
+        private String comment;
+        private List<String> transitions;
+        private String statusComment;
+        private String transitionedComment;
+        private String notTransitionedComment;
+
+        Builder(Type type, TrakrIssue issue) {
+            this.type = type;
+            this.issue = issue;
+        }
+
+        Builder setSource(StewardJournal.Entry journalEntry, String signature, String fingerprint) {
+            this.journalEntry = journalEntry;
+            this.signature = signature;
+            this.fingerprint = fingerprint;
+            return this;
+        }
+
+        Builder setTitle(String title) {
+            this.title = title;
+            return this;
+        }
+
+        Builder setDescription(String description) {
+            this.description = description;
+            return this;
+        }
+
+        Builder setPriority(TrakrPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        Builder setAssignee(String assignee) {
+            this.assignee = assignee;
+            return this;
+        }
+
+        Builder setLabels(List<String> labels) {
+            this.labels = labels;
+            return this;
+        }
+
+        Builder setComment(String comment) {
+            this.comment = comment;
+            return this;
+        }
+
+        Builder setTransitions(List<String> transitions, String statusComment, String transitionedComment,
+                               String notTransitionedComment) {
+            this.transitions = transitions;
+            this.statusComment = statusComment;
+            this.transitionedComment = transitionedComment;
+            this.notTransitionedComment = notTransitionedComment;
+            return this;
+        }
+
+        StewardChange build() {
+            return new StewardChange(this);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package me.shib.steward;
+
+import com.google.gson.reflect.TypeToken;
+import me.shib.lib.trakr.TrakrComment;
+import me.shib.lib.trakr.TrakrException;
+import me.shib.lib.trakr.TrakrIssue;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StewardCommentCache {
+
+    private static final String stateFileName = "comments.json";
+    private static final List<String> markerComments = Arrays.asList(
+            StewardConfig.issueFixedComment, StewardConfig.issueNotFixedComment);
+
+    private final Map<String, List<TrakrComment>> commentsMap;
+    private final Map<String, Map<String, Long>> markerTimestamps;
+    private final StewardStateStore stateStore;
+    private final File stateFile;
+    private final StewardMetrics metrics;
+    private final boolean offline;
+
+    StewardCommentCache(StewardStateStore stateStore, StewardData data, StewardMetrics metrics, boolean offline) {
+        this.metrics = metrics;
+        this.offline = offline;
+        this.commentsMap = new ConcurrentHashMap<>();
+        this.markerTimestamps = new ConcurrentHashMap<>();
+        this.stateStore = stateStore;
+        if (stateStore != null) {
+            this.stateFile = stateStore.getFile(data, stateFileName);
+            Map<String, Map<String, Long>> state = stateStore.read(stateFile,
+                    new TypeToken<Map<String, Map<String, Long>>>() {
+                    }.getType());
+            if (state != null) {
+                for (Map.Entry<String, Map<String, Long>> entry : state.entrySet()) {
+                    markerTimestamps.put(entry.getKey(), new ConcurrentHashMap<>(entry.getValue()));
+                }
+            }
+        } else {
+            this.stateFile = null;
+        }
+    }
+
+    private static boolean containsIgnoreCase(String text, String search) {
+        if (text == null || search == null) {
+            return false;
+        }
+        int max = text.length() - search.length();
+        for (int i = 0; i <= max; i++) {
+            if (text.regionMatches(true, i, search, 0, search.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<TrakrComment> getComments(TrakrIssue issue) throws TrakrException {
+        List<TrakrComment> comments = commentsMap.get(issue.getKey());
+        if (comments == null && offline) {
+            metrics.increment("comments.offline", 1);
+            comments = new ArrayList<>();
+            commentsMap.put(issue.getKey(), comments);
+        } else if (comments == null) {
+            comments = StewardTimer.time(metrics, "tracker.comments", issue::getComments);
+            if (comments == null) {
+                comments = new ArrayList<>();
+            }
+            commentsMap.put(issue.getKey(), comments);
+        }
+        return comments;
+    }
+
+    private void setMarkerTimestamp(String issueKey, String marker, long timestamp) {
+        markerTimestamps.computeIfAbsent(issueKey, k -> new ConcurrentHashMap<>())
+                .merge(marker.toLowerCase(), timestamp, Math::max);
+    }
+
+    Date getLastCommentedDate(TrakrIssue issue, String marker, long notBefore) throws TrakrException {
+        Map<String, Long> timestamps = markerTimestamps.get(issue.getKey());
+        if (timestamps != null) {
+            Long timestamp = timestamps.get(marker.toLowerCase());
+            if (timestamp != null && timestamp >= notBefore) {
+                return new Date(timestamp);
+            }
+        }
+        List<TrakrComment> comments = getComments(issue);
+        for (int i = comments.size() - 1; i >= 0; i--) {
+            TrakrComment comment = comments.get(i);
+            if (containsIgnoreCase(comment.getBody(), marker)) {
+                Date updatedDate = comment.getUpdatedDate();
+                if (updatedDate != null) {
+                    setMarkerTimestamp(issue.getKey(), marker, updatedDate.getTime());
+                }
+                return updatedDate;
+            }
+        }
+        return null;
+    }
+
+    void addComment(TrakrIssue issue, String comment) {
+        commentsMap.remove(issue.getKey());
+        long now = new Date().getTime();
+        for (String marker : markerComments) {
+            if (containsIgnoreCase(comment, marker)) {
+                setMarkerTimestamp(issue.getKey(), marker, now);
+            }
+        }
+    }
+
+    void save() {
+        if (stateStore != null) {
+            stateStore.write(stateFile, markerTimestamps);
+        }
+    }
+
+}
@@ -2,10 +2,6 @@ package me.shib.steward;
 
 import me.shib.lib.trakr.*;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 public final class StewardConfig {
@@ -26,6 +22,7 @@ public final class StewardConfig {
     private Trakr.Type trackerName;
     private Trakr.Connection connection;
     private boolean dryRun;
+    private boolean offline;
     private Integer exitCodeOnIssues;
     private Integer exitCodeOnNewIssues;
     private Integer exitCodeOnFailure;
@@ -36,14 +33,30 @@ public final class StewardConfig {
     private boolean prioritizeDown;
     private String assignee;
     private HashMap<String, List<String>> workflow;
+    private transient StewardWorkflow compiledWorkflow;
     private String reOpenStatus;
     private List<String> resolvedStatuses;
     private List<String> closedStatuses;
     private String specialConditionSecret;
+    private transient StewardHashVerifier specialConditionVerifier;
     private List<String> ignoreForStatuses;
     private Changes autoReopen;
     private Changes autoResolve;
     private boolean findingsToIssuesSyncDisabled;
+    private int syncConcurrency;
+    private int resolveConcurrency;
+    private int projectConcurrency;
+    private String stateDirectory;
+    private int contextSnapshotMaxAge;
+    private boolean incrementalSync;
+    private String metricsFile;
+    private String planFile;
+    private String logLevel;
+    private int trackerRateLimit;
+    private int trackerMaxRetries;
+    private int trackerConcurrency;
+    private DuplicateIssue duplicateIssue;
+    private transient StewardMetrics metrics;
 
     public StewardConfig(String projectKey, String issueType, Map<TrakrPriority, String> priorityMap,
                          Trakr.Type trackerName, Trakr.Connection connection) throws StewardException {
@@ -58,12 +71,21 @@ public final class StewardConfig {
 
     StewardConfig() {
         this.dryRun = false;
+        this.offline = false;
         this.updateTitle = false;
         this.updateDescription = false;
         this.updateLabels = false;
         this.prioritizeUp = false;
         this.prioritizeDown = false;
         this.findingsToIssuesSyncDisabled = false;
+        this.incrementalSync = false;
+        this.syncConcurrency = 1;
+        this.resolveConcurrency = 1;
+        this.projectConcurrency = 1;
+        this.trackerRateLimit = 0;
+        this.trackerMaxRetries = 0;
+        this.trackerConcurrency = 0;
+        this.duplicateIssue = DuplicateIssue.none;
     }
 
     public static StewardConfig getConfig() {
@@ -72,9 +94,10 @@ public final class StewardConfig {
             config.validate();
             return config;
         } catch (StewardException e) {
-            e.printStackTrace();
-            System.out.println("Please set the following environment variables.");
-            System.out.println(StewardEnvar.getVarDefinitions());
+            StewardLogger.error(e);
+            StewardLogger.error("Please set the following environment variables.");
+            StewardLogger.error(StewardEnvar.getVarDefinitions());
+            StewardLogger.flush();
         }
         return null;
     }
@@ -83,22 +106,6 @@ public final class StewardConfig {
         return StewardConfigBuilder.buildConfig(configURI);
     }
 
-    private static String getHS256(String message, String secret) throws InvalidKeyException, NoSuchAlgorithmException {
-        byte[] secretBytes = secret.getBytes();
-        String algorithm = "HmacSHA256";
-        Mac mac = Mac.getInstance(algorithm);
-        mac.init(new SecretKeySpec(secretBytes, algorithm));
-        byte[] bytes = mac.doFinal(message.getBytes());
-        final char[] hexArray = "0123456789abcdef".toCharArray();
-        char[] hexChars = new char[bytes.length * 2];
-        for (int j = 0, v; j < bytes.length; j++) {
-            v = bytes[j] & 0xFF;
-            hexChars[j * 2] = hexArray[v >>> 4];
-            hexChars[j * 2 + 1] = hexArray[v & 0x0F];
-        }
-        return new String(hexChars);
-    }
-
     public void validate() throws StewardException {
         if (projectKey == null || projectKey.isEmpty()) {
             throw new StewardException("A valid project key is required");
@@ -115,6 +122,9 @@ public final class StewardConfig {
         if (connection == null) {
             throw new StewardException("A valid credential is required");
         }
+        for (String warning : getWorkflowWarnings()) {
+            StewardLogger.warn("Workflow warning: " + warning);
+        }
     }
 
     public Integer getExitCodeOnIssues() {
@@ -141,8 +151,13 @@ public final class StewardConfig {
         this.exitCodeOnFailure = exitCodeOnFailure;
     }
 
-    public void setWorkflow(HashMap<String, List<String>> workflow) {
+    Map<String, List<String>> getWorkflow() {
+        return workflow;
+    }
+
+    public synchronized void setWorkflow(HashMap<String, List<String>> workflow) {
         this.workflow = workflow;
+        this.compiledWorkflow = null;
     }
 
     public void setReOpenStatus(String reOpenStatus) {
@@ -153,8 +168,16 @@ public final class StewardConfig {
         this.resolvedStatuses = resolvedStatuses;
     }
 
-    public void setSpecialConditionSecret(String specialConditionSecret) {
+    public synchronized void setSpecialConditionSecret(String specialConditionSecret) {
         this.specialConditionSecret = specialConditionSecret;
+        this.specialConditionVerifier = null;
+    }
+
+    private synchronized StewardHashVerifier getSpecialConditionVerifier() {
+        if (specialConditionVerifier == null && specialConditionSecret != null) {
+            specialConditionVerifier = new StewardHashVerifier(specialConditionSecret);
+        }
+        return specialConditionVerifier;
     }
 
     public void setIgnoreForStatuses(List<String> ignoreForStatuses) {
@@ -178,13 +201,21 @@ public final class StewardConfig {
     }
 
     boolean isDryRun() {
-        return dryRun;
+        return dryRun || offline;
     }
 
     public void setDryRun(boolean dryRun) {
         this.dryRun = dryRun;
     }
 
+    boolean isOffline() {
+        return offline;
+    }
+
+    public void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
     Map<TrakrPriority, String> getPriorityMap() {
         if (priorityMap == null) {
             priorityMap = new HashMap<>();
@@ -221,50 +252,46 @@ public final class StewardConfig {
         return false;
     }
 
-    private List<String> getTransitionPath(List<String> path, String fromStatus, List<String> toStatuses) {
-        if (path.contains(fromStatus)) {
-            return new ArrayList<>();
-        }
-        path.add(fromStatus);
-        if (toStatuses.contains(fromStatus)) {
-            return path;
-        }
-        List<List<String>> temp = new ArrayList<>();
-        List<String> forwardStatuses = workflow.get(fromStatus);
-        if (forwardStatuses == null) {
-            System.out.println("Unable to find transitions for status: " + fromStatus);
-        }
-        List<String> to = workflow.get(fromStatus);
-        if (to != null) {
-            for (String status : to) {
-                List<String> current = getTransitionPath(new ArrayList<>(path), status, toStatuses);
-                if (current.size() > 0 && toStatuses.contains(current.get(current.size() - 1))) {
-                    temp.add(current);
-                }
-            }
+    synchronized StewardWorkflow getCompiledWorkflow() {
+        if (compiledWorkflow == null) {
+            compiledWorkflow = new StewardWorkflow(workflow);
         }
-        int minSize = 0;
-        List<String> selected = null;
-        for (List<String> list : temp) {
-            if ((minSize == 0) || (list.size() > 0 && list.size() < selected.size())) {
-                selected = list;
-                minSize = selected.size();
-            }
-        }
-        if (selected != null && selected.size() > 1) {
-            return selected;
-        }
-        return path;
+        return compiledWorkflow;
     }
 
     List<String> getTransitionsToOpen(String currentStatus) {
-        List<String> reOpenStatuses = new ArrayList<>();
-        reOpenStatuses.add(reOpenStatus);
-        return getTransitionPath(new ArrayList<>(), currentStatus, reOpenStatuses);
+        return getCompiledWorkflow().getTransitionPath(currentStatus, Collections.singletonList(reOpenStatus));
     }
 
     List<String> getTransitionsToClose(String currentStatus) {
-        return getTransitionPath(new ArrayList<>(), currentStatus, closedStatuses);
+        return getCompiledWorkflow().getTransitionPath(currentStatus, closedStatuses);
+    }
+
+    List<String> getWorkflowWarnings() {
+        List<String> warnings = new ArrayList<>();
+        if (workflow == null) {
+            return warnings;
+        }
+        StewardWorkflow compiled = getCompiledWorkflow();
+        if (closedStatuses != null) {
+            for (String status : closedStatuses) {
+                if (!compiled.getStatuses().contains(status)) {
+                    warnings.add("Closed status \"" + status + "\" is not part of the workflow");
+                }
+            }
+            for (String status : compiled.getUnreachableStatuses(closedStatuses)) {
+                warnings.add("No path defined to Close an issue from \"" + status + "\" state");
+            }
+        }
+        if (reOpenStatus != null) {
+            if (!compiled.getStatuses().contains(reOpenStatus)) {
+                warnings.add("Reopen status \"" + reOpenStatus + "\" is not part of the workflow");
+            }
+            for (String status : compiled.getUnreachableStatuses(Collections.singletonList(reOpenStatus))) {
+                warnings.add("No path defined to Open an issue from \"" + status + "\" state");
+            }
+        }
+        return warnings;
     }
 
     boolean isUpdateTitle() {
@@ -357,21 +384,17 @@ public final class StewardConfig {
     }
 
     private boolean isIgnoreLabelExists(TrakrIssue issue, String ignoreLabelPrefix) {
+        StewardHashVerifier verifier = getSpecialConditionVerifier();
+        if (verifier == null || issue.getLabels() == null) {
+            return false;
+        }
         ignoreLabelPrefix = ignoreLabelPrefix.toLowerCase() + "-";
-        if (issue.getLabels() != null) {
-            for (String issueLabel : issue.getLabels()) {
-                if (specialConditionSecret != null && issueLabel.toLowerCase().startsWith(ignoreLabelPrefix)) {
-                    String issueIgnoreHash = issueLabel.toLowerCase()
-                            .replaceFirst(ignoreLabelPrefix, "");
-                    if (issueIgnoreHash.length() >= specialConditionHashLength) {
-                        try {
-                            String calculatedHash = getHS256(issue.getKey(), specialConditionSecret);
-                            if (calculatedHash.endsWith(issueIgnoreHash)) {
-                                return true;
-                            }
-                        } catch (Exception ignored) {
-                        }
-                    }
+        for (String issueLabel : issue.getLabels()) {
+            if (issueLabel != null && issueLabel.length() >= ignoreLabelPrefix.length() + specialConditionHashLength &&
+                    issueLabel.regionMatches(true, 0, ignoreLabelPrefix, 0, ignoreLabelPrefix.length())) {
+                String issueIgnoreHash = issueLabel.substring(ignoreLabelPrefix.length()).toLowerCase();
+                if (verifier.isDigestSuffix(issue.getKey(), issueIgnoreHash)) {
+                    return true;
                 }
             }
         }
@@ -430,6 +453,122 @@ public final class StewardConfig {
         this.findingsToIssuesSyncDisabled = findingsToIssuesSyncDisabled;
     }
 
+    int getSyncConcurrency() {
+        return Math.max(syncConcurrency, 1);
+    }
+
+    public void setSyncConcurrency(int syncConcurrency) {
+        this.syncConcurrency = syncConcurrency;
+    }
+
+    int getResolveConcurrency() {
+        return Math.max(resolveConcurrency, 1);
+    }
+
+    public void setResolveConcurrency(int resolveConcurrency) {
+        this.resolveConcurrency = resolveConcurrency;
+    }
+
+    int getProjectConcurrency() {
+        return Math.max(projectConcurrency, 1);
+    }
+
+    public void setProjectConcurrency(int projectConcurrency) {
+        this.projectConcurrency = projectConcurrency;
+    }
+
+    String getStateDirectory() {
+        return stateDirectory;
+    }
+
+    public void setStateDirectory(String stateDirectory) {
+        this.stateDirectory = stateDirectory;
+    }
+
+    long getContextSnapshotMaxAge() {
+        return Math.max(contextSnapshotMaxAge, 0) * 60000L;
+    }
+
+    public void setContextSnapshotMaxAge(int contextSnapshotMaxAge) {
+        this.contextSnapshotMaxAge = contextSnapshotMaxAge;
+    }
+
+    boolean isIncrementalSync() {
+        return incrementalSync;
+    }
+
+    public void setIncrementalSync(boolean incrementalSync) {
+        this.incrementalSync = incrementalSync;
+    }
+
+    String getMetricsFile() {
+        return metricsFile;
+    }
+
+    public void setMetricsFile(String metricsFile) {
+        this.metricsFile = metricsFile;
+    }
+
+    String getPlanFile() {
+        return planFile;
+    }
+
+    public void setPlanFile(String planFile) {
+        this.planFile = planFile;
+    }
+
+    String getLogLevel() {
+        return logLevel;
+    }
+
+    public void setLogLevel(String logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    int getTrackerRateLimit() {
+        return Math.max(trackerRateLimit, 0);
+    }
+
+    public void setTrackerRateLimit(int trackerRateLimit) {
+        this.trackerRateLimit = trackerRateLimit;
+    }
+
+    int getTrackerMaxRetries() {
+        return Math.max(trackerMaxRetries, 0);
+    }
+
+    public void setTrackerMaxRetries(int trackerMaxRetries) {
+        this.trackerMaxRetries = trackerMaxRetries;
+    }
+
+    int getTrackerConcurrency() {
+        return Math.max(trackerConcurrency, 0);
+    }
+
+    public void setTrackerConcurrency(int trackerConcurrency) {
+        this.trackerConcurrency = trackerConcurrency;
+    }
+
+    DuplicateIssue getDuplicateIssue() {
+        return duplicateIssue != null ? duplicateIssue : DuplicateIssue.none;
+    }
+
+    public void setDuplicateIssue(DuplicateIssue duplicateIssue) {
+        this.duplicateIssue = duplicateIssue;
+    }
+
+    StewardMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(StewardMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public enum DuplicateIssue {
+        none, oldest, active
+    }
+
     public static class Changes {
 
         private static final int defaultCommentInterval = 30;
@@ -481,17 +620,14 @@ public final class StewardConfig {
             this.comment = comment;
         }
 
-        boolean isCommentable(TrakrIssue issue, TrakrContent commentToAdd) throws TrakrException {
+        boolean isCommentable(TrakrIssue issue, TrakrContent commentToAdd, StewardCommentCache commentCache)
+                throws TrakrException {
             if (comment && new Date().getTime() > (issue.getCreatedDate().getTime() + afterDays * oneDay)) {
-                TrakrComment lastComment = null;
-                for (TrakrComment comment : issue.getComments()) {
-                    if (comment.getBody().toLowerCase().contains(commentToAdd.getMarkdownContent().toLowerCase())) {
-                        lastComment = comment;
-                    }
-                }
                 long commentBeforeTime = new Date().getTime() - commentInterval * oneDay;
-                return (lastComment == null) || (commentInterval > 0 &&
-                        lastComment.getUpdatedDate().getTime() < commentBeforeTime);
+                Date lastCommentedDate = commentCache.getLastCommentedDate(issue,
+                        commentToAdd.getMarkdownContent(), commentBeforeTime);
+                return (lastCommentedDate == null) || (commentInterval > 0 &&
+                        lastCommentedDate.getTime() < commentBeforeTime);
             }
             return false;
         }
@@ -45,6 +45,13 @@ class StewardConfigBuilder {
         return contentBuilder.toString();
     }
 
+    static StewardConfig parseConfig(String configJson) {
+        if (configJson == null || configJson.isEmpty()) {
+            return null;
+        }
+        return gson.fromJson(configJson, StewardConfig.class);
+    }
+
     static synchronized StewardConfig buildConfig(String configURI) {
         StewardConfig config = null;
         try {
@@ -60,9 +67,7 @@ class StewardConfigBuilder {
                 } else {
                     configJson = readFromFile(new File(configURI));
                 }
-                if (!configJson.isEmpty()) {
-                    config = gson.fromJson(configJson, StewardConfig.class);
-                }
+                config = parseConfig(configJson);
                 if (config != null) {
                     configMap.put(configURI, config);
                 }
@@ -133,6 +138,7 @@ class StewardConfigBuilder {
         }
         config.setConnection(connection);
         config.setDryRun(StewardEnvar.STEWARD_DRY_RUN.getAsBoolean());
+        config.setOffline(StewardEnvar.STEWARD_OFFLINE.getAsBoolean());
         Integer exitCodeOnIssues = StewardEnvar.STEWARD_EXIT_CODE_ISSUES.getAsInteger();
         if (exitCodeOnIssues != null && exitCodeOnIssues >= 0) {
             config.setExitCodeOnIssues(exitCodeOnIssues);
@@ -201,6 +207,58 @@ class StewardConfigBuilder {
         autoResolve.setComment(StewardEnvar.STEWARD_AUTO_RESOLVE_COMMENT.getAsBoolean());
         config.setAutoResolve(autoResolve);
         config.setFindingsToIssuesSyncDisabled(StewardEnvar.STEWARD_DISABLE_FINDINGS_TO_ISSUES_SYNC.getAsBoolean());
+        Integer syncConcurrency = StewardEnvar.STEWARD_SYNC_CONCURRENCY.getAsInteger();
+        if (syncConcurrency != null && syncConcurrency > 0) {
+            config.setSyncConcurrency(syncConcurrency);
+        }
+        Integer resolveConcurrency = StewardEnvar.STEWARD_RESOLVE_CONCURRENCY.getAsInteger();
+        if (resolveConcurrency != null && resolveConcurrency > 0) {
+            config.setResolveConcurrency(resolveConcurrency);
+        }
+        Integer projectConcurrency = StewardEnvar.STEWARD_PROJECT_CONCURRENCY.getAsInteger();
+        if (projectConcurrency != null && projectConcurrency > 0) {
+            config.setProjectConcurrency(projectConcurrency);
+        }
+        String stateDirectory = StewardEnvar.STEWARD_STATE_DIR.getAsString();
+        if (stateDirectory != null) {
+            config.setStateDirectory(stateDirectory);
+        }
+        Integer contextSnapshotMaxAge = StewardEnvar.STEWARD_CONTEXT_SNAPSHOT_MAX_AGE.getAsInteger();
+        if (contextSnapshotMaxAge != null && contextSnapshotMaxAge >= 0) {
+            config.setContextSnapshotMaxAge(contextSnapshotMaxAge);
+        }
+        config.setIncrementalSync(StewardEnvar.STEWARD_INCREMENTAL_SYNC.getAsBoolean());
+        String metricsFile = StewardEnvar.STEWARD_METRICS_FILE.getAsString();
+        if (metricsFile != null) {
+            config.setMetricsFile(metricsFile);
+        }
+        String planFile = StewardEnvar.STEWARD_PLAN_FILE.getAsString();
+        if (planFile != null) {
+            config.setPlanFile(planFile);
+        }
+        String logLevel = StewardEnvar.STEWARD_LOG_LEVEL.getAsString();
+        if (logLevel != null) {
+            config.setLogLevel(logLevel);
+        }
+        Integer trackerRateLimit = StewardEnvar.STEWARD_TRACKER_RATE_LIMIT.getAsInteger();
+        if (trackerRateLimit != null && trackerRateLimit >= 0) {
+            config.setTrackerRateLimit(trackerRateLimit);
+        }
+        Integer trackerMaxRetries = StewardEnvar.STEWARD_TRACKER_MAX_RETRIES.getAsInteger();
+        if (trackerMaxRetries != null && trackerMaxRetries >= 0) {
+            config.setTrackerMaxRetries(trackerMaxRetries);
+        }
+        Integer trackerConcurrency = StewardEnvar.STEWARD_TRACKER_CONCURRENCY.getAsInteger();
+        if (trackerConcurrency != null && trackerConcurrency >= 0) {
+            config.setTrackerConcurrency(trackerConcurrency);
+        }
+        String duplicateIssue = StewardEnvar.STEWARD_DUPLICATE_ISSUE.getAsString();
+        if (duplicateIssue != null) {
+            try {
+                config.setDuplicateIssue(StewardConfig.DuplicateIssue.valueOf(duplicateIssue.toLowerCase()));
+            } catch (Exception ignored) {
+            }
+        }
     }
 
 }
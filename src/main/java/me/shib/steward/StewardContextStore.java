@@ -0,0 +1,81 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.Trakr;
+import me.shib.lib.trakr.TrakrException;
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrQuery;
+
+import java.util.*;
+
+final class StewardContextStore {
+
+    private final Trakr trakr;
+    private final TrakrQuery query;
+    private final StewardMetrics metrics;
+    private TrakrIssueIndex issueIndex;
+    private long loadedAt;
+
+    private StewardContextStore(Trakr trakr, TrakrQuery query, StewardMetrics metrics) {
+        this.trakr = trakr;
+        this.query = query;
+        this.metrics = metrics;
+    }
+
+    static StewardContextStore create(Trakr trakr, StewardConfig config, Collection<StewardData> dataList,
+                                      StewardMetrics metrics) {
+        if (dataList.size() < 2) {
+            return null;
+        }
+        Set<String> commonLabels = null;
+        for (StewardData data : dataList) {
+            Set<String> labels = new HashSet<>(data.getContexts());
+            labels.add(data.getProjectName());
+            labels.add(data.getToolName());
+            if (commonLabels == null) {
+                commonLabels = labels;
+            } else {
+                commonLabels.retainAll(labels);
+            }
+        }
+        commonLabels.remove(null);
+        if (commonLabels.isEmpty()) {
+            return null;
+        }
+        TrakrQuery query = new TrakrQuery();
+        query.add(TrakrQuery.Condition.project, TrakrQuery.Operator.matching, config.getProjectKey());
+        for (String label : new TreeSet<>(commonLabels)) {
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, label);
+        }
+        return new StewardContextStore(trakr, query, metrics);
+    }
+
+    private synchronized TrakrIssueIndex getIssueIndex() throws TrakrException {
+        if (issueIndex == null) {
+            TrakrIssueIndex index = new TrakrIssueIndex();
+            long startedAt = new Date().getTime();
+            for (TrakrIssue issue : StewardTimer.time(metrics, "tracker.search", () -> trakr.searchTrakrIssues(query))) {
+                index.put(issue);
+            }
+            metrics.increment("context.store.issues", index.size());
+            StewardLogger.info("Loaded " + index.size() + " issues into the shared context");
+            loadedAt = startedAt;
+            issueIndex = index;
+        }
+        return issueIndex;
+    }
+
+    synchronized long getLoadedAt() {
+        return loadedAt;
+    }
+
+    List<TrakrIssue> search(TrakrQuery contextQuery) throws TrakrException {
+        return getIssueIndex().search(contextQuery);
+    }
+
+    synchronized void put(TrakrIssue issue) {
+        if (issueIndex != null) {
+            issueIndex.put(issue);
+        }
+    }
+
+}
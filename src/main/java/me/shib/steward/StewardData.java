@@ -35,8 +35,6 @@ public final class StewardData {
     }
 
     public void addFinding(StewardFinding finding) {
-        finding.addContexts(contexts);
-        finding.addTags(tags);
         this.findings.add(finding);
     }
 
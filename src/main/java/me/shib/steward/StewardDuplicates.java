@@ -0,0 +1,183 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrIssue;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StewardDuplicates {
+
+    private final StewardConfig.DuplicateIssue policy;
+    private final Map<String, Group> groups;
+    private final Map<StewardLabelSet, String> canonicalKeys;
+
+    private StewardDuplicates(StewardConfig.DuplicateIssue policy, Map<String, Group> groups) {
+        this.policy = policy;
+        this.groups = groups;
+        this.canonicalKeys = new ConcurrentHashMap<>();
+    }
+
+    static StewardDuplicates detect(ContextTrakr tracker, StewardData data, StewardConfig config,
+                                    StewardMetrics metrics) {
+        StewardLabels labels = tracker.getLabels();
+        Map<StewardLabelSet, Group> signatureGroups = new HashMap<>();
+        for (TrakrIssue issue : tracker.getContextIssues()) {
+            if (config.getIssueType().equals(issue.getType())) {
+                StewardLabelSet signature = ContextIssue.getFoldedLabelSet(labels, issue);
+                if (!signature.isEmpty()) {
+                    signatureGroups.computeIfAbsent(signature, Group::new).issues.add(issue);
+                }
+            }
+        }
+        List<Group> sortedGroups = new ArrayList<>(signatureGroups.values());
+        sortedGroups.sort(Comparator.comparingInt((Group group) -> group.signature.size())
+                .thenComparing(group -> group.signature.toString()));
+        int[] frequencies = new int[labels.size()];
+        for (Group group : sortedGroups) {
+            for (int i = 0; i < group.signature.size(); i++) {
+                frequencies[group.signature.getId(i)]++;
+            }
+        }
+        Map<Integer, List<Group>> signatureIndex = new HashMap<>();
+        for (Group group : sortedGroups) {
+            Group parent = null;
+            for (int i = 0; i < group.signature.size(); i++) {
+                List<Group> candidates = signatureIndex.get(group.signature.getId(i));
+                if (candidates != null) {
+                    for (Group candidate : candidates) {
+                        if (group.signature.containsAllIds(candidate.signature) &&
+                                (parent == null || candidate.signature.size() > parent.signature.size())) {
+                            parent = candidate;
+                        }
+                    }
+                }
+            }
+            if (parent != null) {
+                group.root = parent.root;
+            }
+            int rarestId = group.signature.getId(0);
+            for (int i = 1; i < group.signature.size(); i++) {
+                if (frequencies[group.signature.getId(i)] < frequencies[rarestId]) {
+                    rarestId = group.signature.getId(i);
+                }
+            }
+            signatureIndex.computeIfAbsent(rarestId, k -> new ArrayList<>()).add(group);
+        }
+        Map<String, Group> groups = new HashMap<>();
+        List<Group> duplicateGroups = new ArrayList<>();
+        for (Group group : sortedGroups) {
+            if (group.root != group) {
+                group.root.issues.addAll(group.issues);
+            }
+        }
+        for (Group group : sortedGroups) {
+            for (TrakrIssue issue : group.issues) {
+                groups.put(issue.getKey(), group.root);
+            }
+            if (group.root == group && group.issues.size() > 1) {
+                duplicateGroups.add(group);
+            }
+        }
+        if (!duplicateGroups.isEmpty()) {
+            int surplus = 0;
+            for (Group group : duplicateGroups) {
+                surplus += group.issues.size() - 1;
+            }
+            metrics.increment("issues.duplicate.groups", duplicateGroups.size());
+            metrics.increment("issues.duplicate", surplus);
+            StewardLogger.warn(duplicateGroups.size() + " groups of duplicate issues found in " + data.getProjectName() +
+                    " [" + data.getToolName() + "]");
+            for (Group group : duplicateGroups) {
+                List<String> keys = new ArrayList<>();
+                for (TrakrIssue issue : group.issues) {
+                    keys.add(issue.getKey());
+                }
+                Collections.sort(keys);
+                StewardLogger.warn("Duplicate issues " + keys + " all carry the labels " + group.signature);
+            }
+        }
+        return new StewardDuplicates(config.getDuplicateIssue(), groups);
+    }
+
+    private static long getTime(Date date, long defaultTime) {
+        return date != null ? date.getTime() : defaultTime;
+    }
+
+    private static long getCreatedTime(TrakrIssue issue) {
+        return getTime(issue.getCreatedDate(), Long.MAX_VALUE);
+    }
+
+    private static long getActivity(TrakrIssue issue) {
+        return Math.max(getTime(issue.getUpdatedDate(), Long.MIN_VALUE),
+                getTime(issue.getCreatedDate(), Long.MIN_VALUE));
+    }
+
+    private static TrakrIssue find(List<TrakrIssue> issues, String key) {
+        if (key != null) {
+            for (TrakrIssue issue : issues) {
+                if (key.equals(issue.getKey())) {
+                    return issue;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TrakrIssue pick(List<TrakrIssue> issues) {
+        Comparator<TrakrIssue> order = policy == StewardConfig.DuplicateIssue.oldest ?
+                Comparator.comparingLong(StewardDuplicates::getCreatedTime) :
+                Comparator.comparingLong(StewardDuplicates::getActivity).reversed();
+        return Collections.min(issues, order.thenComparing(TrakrIssue::getKey));
+    }
+
+    private TrakrIssue pickFromGroup(List<TrakrIssue> issues) {
+        Group group = groups.get(issues.get(0).getKey());
+        if (group == null) {
+            return null;
+        }
+        for (TrakrIssue issue : issues) {
+            if (groups.get(issue.getKey()) != group) {
+                return null;
+            }
+        }
+        return find(issues, group.getCanonicalKey(this));
+    }
+
+    TrakrIssue getCanonical(StewardLabelSet searchLabels, List<TrakrIssue> issues) {
+        if (issues.isEmpty() || policy == StewardConfig.DuplicateIssue.none) {
+            return null;
+        }
+        StewardLabelSet signature = searchLabels.fold();
+        TrakrIssue canonical = find(issues, canonicalKeys.get(signature));
+        if (canonical == null) {
+            canonical = pickFromGroup(issues);
+            if (canonical == null) {
+                canonical = pick(issues);
+            }
+            canonicalKeys.put(signature, canonical.getKey());
+        }
+        return canonical;
+    }
+
+    private static final class Group {
+
+        private final StewardLabelSet signature;
+        private final List<TrakrIssue> issues;
+        private Group root;
+        private String canonicalKey;
+
+        private Group(StewardLabelSet signature) {
+            this.signature = signature;
+            this.issues = new ArrayList<>();
+            this.root = this;
+        }
+
+        private synchronized String getCanonicalKey(StewardDuplicates duplicates) {
+            if (canonicalKey == null) {
+                canonicalKey = duplicates.pick(issues).getKey();
+            }
+            return canonicalKey;
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ enum StewardEnvar {
     STEWARD_TRACKER_PASSWORD("Issue tracker password"),
     STEWARD_TRACKER_API_KEY("Issue tracker API Key/Token"),
     STEWARD_DRY_RUN("Dry run [TRUE|FALSE]"),
+    STEWARD_OFFLINE("Dry run from the saved tracker context without contacting the tracker [TRUE|FALSE]"),
     STEWARD_EXIT_CODE_ISSUES("Exit code when there are issues"),
     STEWARD_EXIT_CODE_NEW_ISSUES("Exit code when there are new issues"),
     STEWARD_EXIT_CODE_FAILURE("Exit code on error"),
@@ -40,7 +41,22 @@ enum StewardEnvar {
     STEWARD_AUTO_RESOLVE_AFTER("Days after which auto-resolve should work [Default 7]"),
     STEWARD_AUTO_RESOLVE_TRANSITION("Transition issues to resolved status if required [TRUE|FALSE]"),
     STEWARD_AUTO_RESOLVE_COMMENT("Comment on issues to resolve if required [TRUE|FALSE]"),
-    STEWARD_DISABLE_FINDINGS_TO_ISSUES_SYNC("Disable sync for findings discovered in current scan [TRUE|FALSE]");
+    STEWARD_DISABLE_FINDINGS_TO_ISSUES_SYNC("Disable sync for findings discovered in current scan [TRUE|FALSE]"),
+    STEWARD_SYNC_CONCURRENCY("Maximum number of findings synced to the tracker concurrently [Default 1]"),
+    STEWARD_RESOLVE_CONCURRENCY("Maximum number of stale issues auto-resolved concurrently [Default 1]"),
+    STEWARD_PROJECT_CONCURRENCY("Maximum number of projects processed concurrently in a batch run [Default 1]"),
+    STEWARD_STATE_DIR("Directory where state is persisted between runs, including the journal used to resume " +
+            "interrupted runs"),
+    STEWARD_CONTEXT_SNAPSHOT_MAX_AGE("Minutes for which the saved tracker context is reused [Default 0, disabled]"),
+    STEWARD_INCREMENTAL_SYNC("Skip findings unchanged since the previous run [TRUE|FALSE]"),
+    STEWARD_METRICS_FILE("File to which timing metrics of the run are written as JSON"),
+    STEWARD_PLAN_FILE("File to which the planned tracker changes are written as JSON"),
+    STEWARD_LOG_LEVEL("Log level [DEBUG|INFO|WARN|ERROR|OFF] [Default INFO]"),
+    STEWARD_TRACKER_RATE_LIMIT("Maximum number of tracker requests per second [Default 0, unlimited]"),
+    STEWARD_TRACKER_MAX_RETRIES("Number of times a throttled tracker request is retried with backoff [Default 0]"),
+    STEWARD_TRACKER_CONCURRENCY("Maximum number of tracker requests in flight, adapted to latency and throttling " +
+            "[Default 0, unlimited]"),
+    STEWARD_DUPLICATE_ISSUE("Issue to sync when several issues match a finding [NONE|OLDEST|ACTIVE] [Default NONE]");
 
     private final transient String description;
 
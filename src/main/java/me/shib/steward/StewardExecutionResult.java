@@ -1,14 +1,14 @@
 package me.shib.steward;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class StewardExecutionResult {
 
     private final Map<String, StewardIssueLifeCycle> issueLifeCycles;
     private final List<Exception> exceptions;
+    private final transient List<StewardPlan> plans;
+    private transient StewardMetrics metrics;
     private int findings;
     private int toResolve;
     private int created;
@@ -25,8 +25,10 @@ public final class StewardExecutionResult {
     private int ignored;
 
     StewardExecutionResult() {
-        this.issueLifeCycles = new HashMap<>();
-        this.exceptions = new ArrayList<>();
+        this.issueLifeCycles = new ConcurrentHashMap<>();
+        this.exceptions = Collections.synchronizedList(new ArrayList<>());
+        this.plans = Collections.synchronizedList(new ArrayList<>());
+        this.metrics = StewardMetrics.none;
     }
 
     private void init() {
@@ -50,11 +52,27 @@ public final class StewardExecutionResult {
         this.exceptions.add(e);
     }
 
+    void merge(StewardExecutionResult executionResult) {
+        this.issueLifeCycles.putAll(executionResult.issueLifeCycles);
+        this.exceptions.addAll(executionResult.exceptions);
+        this.plans.addAll(executionResult.plans);
+    }
+
+    void addPlan(StewardPlan plan) {
+        this.plans.add(plan);
+    }
+
+    List<StewardPlan> getPlans() {
+        synchronized (plans) {
+            return new ArrayList<>(plans);
+        }
+    }
+
     void addIssueLifeCycle(StewardIssueLifeCycle issueLifeCycle) {
         this.issueLifeCycles.put(issueLifeCycle.getIssue().getKey(), issueLifeCycle);
     }
 
-    void summarizeCount() {
+    synchronized void summarizeCount() {
         init();
         for (StewardIssueLifeCycle lifeCycle : issueLifeCycles.values()) {
             if (lifeCycle.isExists()) {
@@ -101,6 +119,35 @@ public final class StewardExecutionResult {
         }
     }
 
+    synchronized Map<String, Integer> getSummary() {
+        summarizeCount();
+        Map<String, Integer> summary = new LinkedHashMap<>();
+        summary.put("findings", findings);
+        summary.put("toResolve", toResolve);
+        summary.put("created", created);
+        summary.put("updated", updated);
+        summary.put("assigned", assigned);
+        summary.put("priorityUpdated", priorityUpdated);
+        summary.put("labelsUpdated", labelsUpdated);
+        summary.put("titleUpdated", titleUpdated);
+        summary.put("descriptionUpdated", descriptionUpdated);
+        summary.put("transitioned", transitioned);
+        summary.put("resolved", resolved);
+        summary.put("reOpened", reOpened);
+        summary.put("commented", commented);
+        summary.put("ignored", ignored);
+        summary.put("exceptions", exceptions.size());
+        return summary;
+    }
+
+    public StewardMetrics getMetrics() {
+        return metrics;
+    }
+
+    void setMetrics(StewardMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     public List<Exception> getExceptions() {
         return exceptions;
     }
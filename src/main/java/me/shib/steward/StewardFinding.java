@@ -5,6 +5,7 @@ import me.shib.lib.trakr.TrakrPriority;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.TreeSet;
 
 public final class StewardFinding {
 
@@ -12,6 +13,8 @@ public final class StewardFinding {
     private final TrakrPriority priority;
     private final Set<String> contexts;
     private final Set<String> tags;
+    private final StewardLabelSet contextSet;
+    private final StewardLabelSet tagSet;
     private String description;
     private String assignee;
 
@@ -20,6 +23,19 @@ public final class StewardFinding {
         this.priority = priority;
         this.contexts = new LinkedHashSet<>();
         this.tags = new LinkedHashSet<>();
+        this.contextSet = null;
+        this.tagSet = null;
+    }
+
+    private StewardFinding(StewardFinding finding, StewardLabelSet contextSet, StewardLabelSet tagSet) {
+        this.title = finding.title;
+        this.priority = finding.priority;
+        this.contexts = contextSet;
+        this.tags = tagSet;
+        this.contextSet = contextSet;
+        this.tagSet = tagSet;
+        this.description = finding.description;
+        this.assignee = finding.assignee;
     }
 
     public void addContext(String context) {
@@ -42,6 +58,10 @@ public final class StewardFinding {
         this.tags.addAll(tags);
     }
 
+    StewardFinding prepare(StewardLabels labels, StewardLabelSet dataContexts, StewardLabelSet dataTags) {
+        return new StewardFinding(this, labels.of(contexts).union(dataContexts), labels.of(tags).union(dataTags));
+    }
+
     String getTitle() {
         return title;
     }
@@ -66,6 +86,18 @@ public final class StewardFinding {
         return tags;
     }
 
+    StewardLabelSet getContextSet() {
+        return contextSet;
+    }
+
+    StewardLabelSet getTagSet() {
+        return tagSet;
+    }
+
+    String getSignature() {
+        return String.join("\n", new TreeSet<>(contextSet.fold()));
+    }
+
     String getAssignee(StewardConfig config) {
         if (assignee != null && !assignee.isEmpty()) {
             return assignee;
@@ -0,0 +1,83 @@
+package me.shib.steward;
+
+import java.util.*;
+
+final class StewardFindingIndex {
+
+    private final StewardLabels labels;
+    private final Set<StewardLabelSet> signatures;
+    private List<List<StewardLabelSet>> signatureIndex;
+    private boolean matchingAll;
+
+    StewardFindingIndex(StewardLabels labels) {
+        this.labels = labels;
+        this.signatures = new HashSet<>();
+        this.matchingAll = false;
+    }
+
+    synchronized void add(Collection<String> contexts) {
+        StewardLabelSet signature = labels.of(contexts).fold();
+        if (signature.isEmpty()) {
+            matchingAll = true;
+        } else if (signatures.add(signature)) {
+            signatureIndex = null;
+        }
+    }
+
+    private synchronized boolean isMatchingAll() {
+        return matchingAll;
+    }
+
+    private synchronized List<List<StewardLabelSet>> getSignatureIndex() {
+        if (signatureIndex == null) {
+            int[] frequencies = new int[labels.size()];
+            for (StewardLabelSet signature : signatures) {
+                for (int i = 0; i < signature.size(); i++) {
+                    frequencies[signature.getId(i)]++;
+                }
+            }
+            List<List<StewardLabelSet>> index = new ArrayList<>(Collections.nCopies(frequencies.length, null));
+            for (StewardLabelSet signature : signatures) {
+                int rarestId = signature.getId(0);
+                for (int i = 1; i < signature.size(); i++) {
+                    if (frequencies[signature.getId(i)] < frequencies[rarestId]) {
+                        rarestId = signature.getId(i);
+                    }
+                }
+                List<StewardLabelSet> candidates = index.get(rarestId);
+                if (candidates == null) {
+                    candidates = new ArrayList<>();
+                    index.set(rarestId, candidates);
+                }
+                candidates.add(signature);
+            }
+            signatureIndex = index;
+        }
+        return signatureIndex;
+    }
+
+    boolean isMatching(Collection<String> issueLabels) {
+        return isMatchingFolded(labels.ofFolded(issueLabels));
+    }
+
+    boolean isMatchingFolded(StewardLabelSet foldedIssueLabels) {
+        if (isMatchingAll()) {
+            return true;
+        }
+        foldedIssueLabels = labels.ofFolded(foldedIssueLabels);
+        List<List<StewardLabelSet>> index = getSignatureIndex();
+        for (int i = 0; i < foldedIssueLabels.size(); i++) {
+            int id = foldedIssueLabels.getId(i);
+            List<StewardLabelSet> candidates = id < index.size() ? index.get(id) : null;
+            if (candidates != null) {
+                for (StewardLabelSet signature : candidates) {
+                    if (foldedIssueLabels.containsAllIds(signature)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,47 @@
+package me.shib.steward;
+
+import java.util.Iterator;
+
+final class StewardFindingSource implements Iterator<StewardFinding> {
+
+    private final StewardLabels labels;
+    private final StewardLabelSet dataContexts;
+    private final StewardLabelSet dataTags;
+    private final Iterator<StewardFinding> findings;
+    private final StewardFindingIndex findingIndex;
+    private int count;
+
+    StewardFindingSource(StewardLabels labels, StewardData data, Iterator<StewardFinding> findings,
+                         StewardFindingIndex findingIndex) {
+        this.labels = labels;
+        this.dataContexts = labels.of(data.getContexts());
+        this.dataTags = labels.of(data.getTags());
+        this.findings = findings;
+        this.findingIndex = findingIndex;
+        this.count = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return findings.hasNext();
+    }
+
+    @Override
+    public StewardFinding next() {
+        StewardFinding finding = findings.next().prepare(labels, dataContexts, dataTags);
+        findingIndex.add(finding.getContextSet());
+        count++;
+        return finding;
+    }
+
+    void drain() {
+        while (hasNext()) {
+            next();
+        }
+    }
+
+    int getCount() {
+        return count;
+    }
+
+}
@@ -0,0 +1,108 @@
+package me.shib.steward;
+
+import com.google.gson.reflect.TypeToken;
+import me.shib.lib.trakr.TrakrIssue;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StewardFingerprints {
+
+    private static final String stateFileName = "fingerprints.json";
+
+    private final StewardStateStore stateStore;
+    private final File stateFile;
+    private final String settingsHash;
+    private final Map<String, FingerprintRecord> previousRecords;
+    private final Map<String, FingerprintRecord> currentRecords;
+
+    private StewardFingerprints(StewardStateStore stateStore, StewardData data, StewardConfig config) {
+        this.stateStore = stateStore;
+        this.stateFile = stateStore.getFile(data, stateFileName);
+        this.settingsHash = StewardStateStore.getHash(config.getProjectKey(), config.getIssueType(),
+                String.valueOf(config.isUpdateTitle()), String.valueOf(config.isUpdateDescription()),
+                String.valueOf(config.isUpdateLabels()), String.valueOf(config.isPrioritizeUp()),
+                String.valueOf(config.isPrioritizeDown()), config.getAssignee());
+        Map<String, FingerprintRecord> records = stateStore.read(stateFile,
+                new TypeToken<Map<String, FingerprintRecord>>() {
+                }.getType());
+        this.previousRecords = records != null ? records : new HashMap<>();
+        this.currentRecords = new ConcurrentHashMap<>();
+    }
+
+    static StewardFingerprints load(StewardStateStore stateStore, StewardData data, StewardConfig config) {
+        if (stateStore == null || !config.isIncrementalSync()) {
+            return null;
+        }
+        return new StewardFingerprints(stateStore, data, config);
+    }
+
+    private static List<String> toSortedList(Collection<String> values) {
+        List<String> sorted = new ArrayList<>();
+        for (String value : values) {
+            if (value != null) {
+                sorted.add(value.toLowerCase());
+            }
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static Long toTime(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return date.getTime();
+    }
+
+    String getFingerprint(StewardFinding finding, StewardConfig config) {
+        return StewardStateStore.getHash(settingsHash, finding.getTitle(), String.valueOf(finding.getPriority()),
+                finding.getDescription(), finding.getAssignee(config),
+                finding.getSignature(),
+                String.join("\n", toSortedList(finding.getTags())));
+    }
+
+    TrakrIssue getUnchangedIssue(String signature, String fingerprint, ContextTrakr contextTracker) {
+        FingerprintRecord record = previousRecords.get(signature);
+        if (record == null || !fingerprint.equals(record.fingerprint) || record.issueKey == null) {
+            return null;
+        }
+        TrakrIssue issue = contextTracker.getContextIssue(record.issueKey);
+        if (issue == null || !Objects.equals(record.status, issue.getStatus()) ||
+                !Objects.equals(record.updatedDate, toTime(issue.getUpdatedDate()))) {
+            return null;
+        }
+        currentRecords.put(signature, record);
+        return issue;
+    }
+
+    void setSynced(String signature, String fingerprint, String issueKey) {
+        FingerprintRecord record = new FingerprintRecord();
+        record.fingerprint = fingerprint;
+        record.issueKey = issueKey;
+        currentRecords.put(signature, record);
+    }
+
+    void save(ContextTrakr contextTracker) {
+        Map<String, FingerprintRecord> records = new HashMap<>();
+        for (Map.Entry<String, FingerprintRecord> entry : currentRecords.entrySet()) {
+            FingerprintRecord record = entry.getValue();
+            TrakrIssue issue = contextTracker.getContextIssue(record.issueKey);
+            if (issue != null) {
+                record.status = issue.getStatus();
+                record.updatedDate = toTime(issue.getUpdatedDate());
+                records.put(entry.getKey(), record);
+            }
+        }
+        stateStore.write(stateFile, records);
+    }
+
+    private static final class FingerprintRecord {
+        private String fingerprint;
+        private String issueKey;
+        private String status;
+        private Long updatedDate;
+    }
+
+}
@@ -0,0 +1,69 @@
+package me.shib.steward;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class StewardHashVerifier {
+
+    private static final String algorithm = "HmacSHA256";
+    private static final char[] hexArray = "0123456789abcdef".toCharArray();
+    private static final int maxCachedDigests = 50000;
+
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, String> digestCache;
+
+    StewardHashVerifier(String secret) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(), algorithm);
+        this.macs = new ThreadLocal<>();
+        this.digestCache = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxCachedDigests;
+            }
+        });
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hexChars = new char[bytes.length * 2];
+        for (int j = 0, v; j < bytes.length; j++) {
+            v = bytes[j] & 0xFF;
+            hexChars[j * 2] = hexArray[v >>> 4];
+            hexChars[j * 2 + 1] = hexArray[v & 0x0F];
+        }
+        return new String(hexChars);
+    }
+
+    private Mac getMac() throws NoSuchAlgorithmException, InvalidKeyException {
+        Mac mac = macs.get();
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            mac.init(secretKey);
+            macs.set(mac);
+        }
+        return mac;
+    }
+
+    String getDigest(String message) throws NoSuchAlgorithmException, InvalidKeyException {
+        String digest = digestCache.get(message);
+        if (digest == null) {
+            digest = toHex(getMac().doFinal(message.getBytes()));
+            digestCache.put(message, digest);
+        }
+        return digest;
+    }
+
+    boolean isDigestSuffix(String message, String digestSuffix) {
+        try {
+            return getDigest(message).endsWith(digestSuffix);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            return false;
+        }
+    }
+
+}
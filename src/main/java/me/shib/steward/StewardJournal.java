@@ -0,0 +1,242 @@
+package me.shib.steward;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrQuery;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StewardJournal {
+
+    private static final String journalFileName = "journal.log";
+    private static final Gson gson = new GsonBuilder().create();
+
+    private final File file;
+    private final Map<String, Record> syncedRecords;
+    private final Map<String, Record> pendingRecords;
+    private final Set<String> resolvedKeys;
+    private Writer writer;
+
+    private StewardJournal(File file) {
+        this.file = file;
+        this.syncedRecords = new ConcurrentHashMap<>();
+        this.pendingRecords = new ConcurrentHashMap<>();
+        this.resolvedKeys = ConcurrentHashMap.newKeySet();
+    }
+
+    static StewardJournal open(StewardStateStore stateStore, StewardData data, StewardConfig config) {
+        if (stateStore == null || config.isDryRun()) {
+            return null;
+        }
+        StewardJournal journal = new StewardJournal(stateStore.getFile(data, journalFileName));
+        boolean resuming = journal.read();
+        try {
+            File directory = journal.file.getParentFile();
+            if (directory != null && !directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory.getPath());
+            }
+            journal.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(journal.file, resuming),
+                    StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            StewardLogger.warn("Unable to open journal " + journal.file.getPath() + ": " + e.getMessage());
+            return null;
+        }
+        if (resuming) {
+            StewardLogger.info("Resuming an interrupted run: " + journal.syncedRecords.size() +
+                    " findings synced, " + journal.pendingRecords.size() + " in progress, " +
+                    journal.resolvedKeys.size() + " issues resolved");
+        }
+        return journal;
+    }
+
+    private static String getHash(StewardFinding finding) {
+        return StewardStateStore.getHash(finding.getTitle(), String.valueOf(finding.getPriority()),
+                finding.getDescription(), String.join("\n", new TreeSet<>(finding.getTags())));
+    }
+
+    private boolean read() {
+        if (!file.exists() || file.isDirectory()) {
+            return false;
+        }
+        Map<String, Record> synced = new HashMap<>();
+        Map<String, Record> pending = new HashMap<>();
+        Set<String> resolved = new HashSet<>();
+        boolean complete = true;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Record record;
+                try {
+                    record = gson.fromJson(line, Record.class);
+                } catch (Exception e) {
+                    continue;
+                }
+                if (record == null || record.op == null) {
+                    continue;
+                }
+                complete = false;
+                switch (record.op) {
+                    case "plan":
+                        pending.put(record.signature, record);
+                        break;
+                    case "sync":
+                        pending.remove(record.signature);
+                        synced.put(record.signature, record);
+                        break;
+                    case "resolve":
+                        resolved.add(record.key);
+                        break;
+                    case "complete":
+                        complete = true;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            StewardLogger.warn("Unable to read journal " + file.getPath() + ": " + e.getMessage());
+            return false;
+        }
+        if (complete) {
+            return false;
+        }
+        syncedRecords.putAll(synced);
+        pendingRecords.putAll(pending);
+        resolvedKeys.addAll(resolved);
+        return true;
+    }
+
+    private synchronized void append(Record record) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(gson.toJson(record));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            StewardLogger.warn("Unable to write journal " + file.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    void recover(ContextTrakr contextTracker, StewardConfig config, StewardData data) throws StewardException {
+        List<Record> unconfirmed = new ArrayList<>(pendingRecords.values());
+        for (Record record : syncedRecords.values()) {
+            if (contextTracker.getContextIssue(record.key) == null) {
+                unconfirmed.add(record);
+            }
+        }
+        if (unconfirmed.isEmpty()) {
+            return;
+        }
+        StewardLogger.info("Looking up " + unconfirmed.size() + " issues from the interrupted run");
+        StewardWorkers.run("recover", unconfirmed.iterator(), config.getSyncConcurrency(), record -> {
+            TrakrQuery query = new TrakrQuery(TrakrQuery.Condition.project, TrakrQuery.Operator.matching,
+                    config.getProjectKey());
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
+            if (record.labels != null) {
+                for (String label : record.labels) {
+                    query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, label);
+                }
+            }
+            try {
+                contextTracker.reconcile(query);
+            } catch (Exception e) {
+                StewardLogger.warn("Unable to look up issues for " + record.labels + ": " + e.getMessage());
+            }
+        });
+        syncedRecords.values().removeIf(record -> contextTracker.getContextIssue(record.key) == null);
+    }
+
+    TrakrIssue getSyncedIssue(StewardFinding finding, ContextTrakr contextTracker) {
+        if (syncedRecords.isEmpty()) {
+            return null;
+        }
+        Record record = syncedRecords.get(finding.getSignature());
+        if (record == null || !getHash(finding).equals(record.hash)) {
+            return null;
+        }
+        return contextTracker.getContextIssue(record.key);
+    }
+
+    boolean isResolved(String key) {
+        return key != null && resolvedKeys.contains(key);
+    }
+
+    static Entry getEntry(StewardFinding finding) {
+        return new Entry(finding.getSignature(), getHash(finding), new ArrayList<>(finding.getContexts()));
+    }
+
+    void planned(Entry entry) {
+        Record record = new Record("plan");
+        record.signature = entry.signature;
+        record.labels = entry.labels;
+        append(record);
+    }
+
+    void synced(Entry entry, TrakrIssue issue) {
+        if (issue == null) {
+            return;
+        }
+        Record record = new Record("sync");
+        record.signature = entry.signature;
+        record.hash = entry.hash;
+        record.key = issue.getKey();
+        record.labels = entry.labels;
+        append(record);
+    }
+
+    void resolved(TrakrIssue issue) {
+        Record record = new Record("resolve");
+        record.key = issue.getKey();
+        append(record);
+    }
+
+    void complete() {
+        append(new Record("complete"));
+        close();
+    }
+
+    synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                StewardLogger.warn("Unable to close journal " + file.getPath() + ": " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    static final class Entry {
+
+        private final String signature;
+        private final String hash;
+        private final List<String> labels;
+
+        private Entry(String signature, String hash, List<String> labels) {
+            this.signature = signature;
+            this.hash = hash;
+            this.labels = labels;
+        }
+    }
+
+    private static final class Record {
+        private String op;
+        private String signature;
+        private String hash;
+        private String key;
+        private List<String> labels;
+
+        private Record(String op) {
+            this.op = op;
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package me.shib.steward;
+
+import java.util.*;
+
+final class StewardLabelSet extends AbstractSet<String> {
+
+    private final StewardLabels labels;
+    private final int[] ids;
+    private final int hash;
+    private volatile StewardLabelSet foldedSet;
+
+    StewardLabelSet(StewardLabels labels, int[] ids) {
+        this.labels = labels;
+        this.ids = ids;
+        int hash = 0;
+        for (int id : ids) {
+            hash += labels.getLabel(id).hashCode();
+        }
+        this.hash = hash;
+    }
+
+    static StewardLabelSet fromIds(StewardLabels labels, int[] ids, int length) {
+        if (length == 0) {
+            return labels.empty();
+        }
+        Arrays.sort(ids, 0, length);
+        int unique = 0;
+        for (int i = 0; i < length; i++) {
+            if (unique == 0 || ids[unique - 1] != ids[i]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return new StewardLabelSet(labels, ids.length == unique ? ids : Arrays.copyOf(ids, unique));
+    }
+
+    boolean isOf(StewardLabels labels) {
+        return this.labels == labels;
+    }
+
+    StewardLabelSet with(String label) {
+        if (label == null) {
+            return this;
+        }
+        int id = labels.getId(label);
+        if (containsId(id)) {
+            return this;
+        }
+        int[] newIds = Arrays.copyOf(ids, ids.length + 1);
+        newIds[ids.length] = id;
+        return fromIds(labels, newIds, newIds.length);
+    }
+
+    StewardLabelSet union(StewardLabelSet other) {
+        other = labels.of(other);
+        if (other.ids.length == 0 || this == other) {
+            return this;
+        }
+        if (ids.length == 0) {
+            return other;
+        }
+        int[] merged = new int[ids.length + other.ids.length];
+        int i = 0, j = 0, length = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] < other.ids[j]) {
+                merged[length++] = ids[i++];
+            } else if (ids[i] > other.ids[j]) {
+                merged[length++] = other.ids[j++];
+            } else {
+                merged[length++] = ids[i++];
+                j++;
+            }
+        }
+        while (i < ids.length) {
+            merged[length++] = ids[i++];
+        }
+        while (j < other.ids.length) {
+            merged[length++] = other.ids[j++];
+        }
+        if (length == ids.length) {
+            return this;
+        }
+        if (length == other.ids.length) {
+            return other;
+        }
+        return new StewardLabelSet(labels, Arrays.copyOf(merged, length));
+    }
+
+    StewardLabelSet fold() {
+        StewardLabelSet folded = foldedSet;
+        if (folded == null) {
+            int[] foldedIds = new int[ids.length];
+            boolean changed = false;
+            for (int i = 0; i < ids.length; i++) {
+                foldedIds[i] = labels.getFoldedId(ids[i]);
+                changed |= foldedIds[i] != ids[i];
+            }
+            folded = changed ? fromIds(labels, foldedIds, foldedIds.length) : this;
+            foldedSet = folded;
+        }
+        return folded;
+    }
+
+    int getId(int index) {
+        return ids[index];
+    }
+
+    boolean containsId(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    boolean containsAllIds(StewardLabelSet other) {
+        if (other.labels != labels) {
+            return containsAll(other);
+        }
+        if (other.ids.length > ids.length) {
+            return false;
+        }
+        int i = 0;
+        for (int id : other.ids) {
+            while (i < ids.length && ids[i] < id) {
+                i++;
+            }
+            if (i == ids.length || ids[i] != id) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+        int id = labels.findId((String) o);
+        return id >= 0 && containsId(id);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < ids.length;
+            }
+
+            @Override
+            public String next() {
+                if (index >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return labels.getLabel(ids[index++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof StewardLabelSet) {
+            StewardLabelSet other = (StewardLabelSet) o;
+            if (other.labels == labels) {
+                return hash == other.hash && Arrays.equals(ids, other.ids);
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+}
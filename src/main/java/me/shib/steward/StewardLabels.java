@@ -0,0 +1,117 @@
+package me.shib.steward;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StewardLabels {
+
+    private static final int initialCapacity = 64;
+
+    private final Map<String, Integer> ids;
+    private final StewardLabelSet empty;
+    private volatile String[] labels;
+    private volatile int[] foldedIds;
+    private int size;
+
+    StewardLabels() {
+        this.ids = new ConcurrentHashMap<>();
+        this.empty = new StewardLabelSet(this, new int[0]);
+        this.labels = new String[initialCapacity];
+        this.foldedIds = new int[initialCapacity];
+        this.size = 0;
+    }
+
+    int getId(String label) {
+        Integer id = ids.get(label);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(label);
+            if (id != null) {
+                return id;
+            }
+            String foldedLabel = label.toLowerCase();
+            int foldedId = foldedLabel.equals(label) ? size : getId(foldedLabel);
+            int newId = size;
+            if (newId == labels.length) {
+                foldedIds = Arrays.copyOf(foldedIds, newId * 2);
+                labels = Arrays.copyOf(labels, newId * 2);
+            }
+            foldedIds[newId] = foldedId;
+            labels[newId] = label;
+            size++;
+            ids.put(label, newId);
+            return newId;
+        }
+    }
+
+    int findId(String label) {
+        Integer id = ids.get(label);
+        return id != null ? id : -1;
+    }
+
+    int findFoldedId(String label) {
+        int id = findId(label);
+        if (id < 0) {
+            id = findId(label.toLowerCase());
+        }
+        return id < 0 ? -1 : getFoldedId(id);
+    }
+
+    String getLabel(int id) {
+        return labels[id];
+    }
+
+    int getFoldedId(int id) {
+        return foldedIds[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    StewardLabelSet empty() {
+        return empty;
+    }
+
+    StewardLabelSet of(Collection<String> labels) {
+        if (labels instanceof StewardLabelSet && ((StewardLabelSet) labels).isOf(this)) {
+            return (StewardLabelSet) labels;
+        }
+        if (labels == null || labels.isEmpty()) {
+            return empty;
+        }
+        int[] ids = new int[labels.size()];
+        int length = 0;
+        for (String label : labels) {
+            if (label != null) {
+                ids[length++] = getId(label);
+            }
+        }
+        return StewardLabelSet.fromIds(this, ids, length);
+    }
+
+    StewardLabelSet ofFolded(Collection<String> labels) {
+        if (labels instanceof StewardLabelSet && ((StewardLabelSet) labels).isOf(this)) {
+            return ((StewardLabelSet) labels).fold();
+        }
+        if (labels == null || labels.isEmpty()) {
+            return empty;
+        }
+        int[] ids = new int[labels.size()];
+        int length = 0;
+        for (String label : labels) {
+            if (label != null) {
+                int foldedId = findFoldedId(label);
+                if (foldedId >= 0) {
+                    ids[length++] = foldedId;
+                }
+            }
+        }
+        return StewardLabelSet.fromIds(this, ids, length);
+    }
+
+}
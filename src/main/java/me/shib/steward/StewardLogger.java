@@ -0,0 +1,207 @@
+package me.shib.steward;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+final class StewardLogger {
+
+    private static final int bufferSize = 8192;
+    private static final int batchSize = 512;
+    private static final long flushTimeout = 10000;
+
+    private static final BlockingQueue<Entry> buffer = new ArrayBlockingQueue<>(bufferSize);
+    private static final AtomicLong enqueued = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final Object writeLock = new Object();
+    private static long written = 0;
+    private static volatile Level level = getDefaultLevel();
+    private static volatile Thread writer;
+
+    private StewardLogger() {
+    }
+
+    private static Level getDefaultLevel() {
+        Level envLevel = toLevel(StewardEnvar.STEWARD_LOG_LEVEL.getAsString());
+        return envLevel != null ? envLevel : Level.INFO;
+    }
+
+    private static Level toLevel(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Level.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static void setLevel(String name) {
+        Level newLevel = toLevel(name);
+        if (newLevel == null) {
+            warn("Unknown log level: " + name);
+        } else {
+            level = newLevel;
+        }
+    }
+
+    static boolean isEnabled(Level messageLevel) {
+        return messageLevel.ordinal() >= level.ordinal() && messageLevel != Level.OFF;
+    }
+
+    static void debug(Supplier<String> message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    static void info(String message) {
+        log(Level.INFO, () -> message, null);
+    }
+
+    static void info(Supplier<String> message) {
+        log(Level.INFO, message, null);
+    }
+
+    static void warn(String message) {
+        log(Level.WARN, () -> message, null);
+    }
+
+    static void error(String message) {
+        log(Level.ERROR, () -> message, null);
+    }
+
+    static void error(Throwable throwable) {
+        log(Level.ERROR, null, throwable);
+    }
+
+    private static void log(Level messageLevel, Supplier<String> message, Throwable throwable) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        Entry entry = new Entry(message != null ? message.get() : null, throwable);
+        startWriter();
+        enqueued.incrementAndGet();
+        if (!buffer.offer(entry)) {
+            if (messageLevel.ordinal() < Level.WARN.ordinal()) {
+                dropped.incrementAndGet();
+                markWritten(1);
+                return;
+            }
+            try {
+                buffer.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                markWritten(1);
+                print(entry.getOut(), System.out);
+                print(entry.getErr(), System.err);
+            }
+        }
+    }
+
+    private static void print(CharSequence text, PrintStream stream) {
+        if (text.length() > 0) {
+            stream.print(text);
+            stream.flush();
+        }
+    }
+
+    private static void startWriter() {
+        if (writer == null) {
+            synchronized (StewardLogger.class) {
+                if (writer == null) {
+                    Thread thread = new Thread(StewardLogger::write, "steward-logger");
+                    thread.setDaemon(true);
+                    thread.start();
+                    writer = thread;
+                }
+            }
+        }
+    }
+
+    private static void markWritten(int count) {
+        synchronized (writeLock) {
+            written += count;
+            writeLock.notifyAll();
+        }
+    }
+
+    private static void write() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            buffer.drainTo(batch, batchSize - 1);
+            StringBuilder out = new StringBuilder();
+            long droppedCount = dropped.getAndSet(0);
+            if (droppedCount > 0) {
+                out.append(droppedCount).append(" log messages were dropped").append(System.lineSeparator());
+            }
+            for (Entry entry : batch) {
+                out.append(entry.getOut());
+                String err = entry.getErr();
+                if (!err.isEmpty()) {
+                    print(out, System.out);
+                    out.setLength(0);
+                    print(err, System.err);
+                }
+            }
+            print(out, System.out);
+            markWritten(batch.size());
+            batch.clear();
+        }
+    }
+
+    static void flush() {
+        long target = enqueued.get();
+        long deadline = System.currentTimeMillis() + flushTimeout;
+        synchronized (writeLock) {
+            long remaining = flushTimeout;
+            while (written < target && remaining > 0) {
+                try {
+                    writeLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final class Entry {
+        private final String message;
+        private final Throwable throwable;
+
+        private Entry(String message, Throwable throwable) {
+            this.message = message;
+            this.throwable = throwable;
+        }
+
+        private String getOut() {
+            return message != null ? message + System.lineSeparator() : "";
+        }
+
+        private String getErr() {
+            if (throwable == null) {
+                return "";
+            }
+            StringWriter stackTrace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(stackTrace));
+            return stackTrace.toString();
+        }
+    }
+
+}
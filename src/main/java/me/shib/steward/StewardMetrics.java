@@ -0,0 +1,19 @@
+package me.shib.steward;
+
+public interface StewardMetrics {
+
+    StewardMetrics none = new StewardMetrics() {
+        @Override
+        public void record(String name, long durationNanos, boolean failed) {
+        }
+
+        @Override
+        public void increment(String name, long count) {
+        }
+    };
+
+    void record(String name, long durationNanos, boolean failed);
+
+    void increment(String name, long count);
+
+}
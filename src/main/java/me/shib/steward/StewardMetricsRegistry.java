@@ -0,0 +1,140 @@
+package me.shib.steward;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class StewardMetricsRegistry implements StewardMetrics {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final double[] percentiles = {50, 90, 99};
+
+    private final Map<String, Timer> timers;
+    private final Map<String, LongAdder> counters;
+
+    public StewardMetricsRegistry() {
+        this.timers = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    @Override
+    public void record(String name, long durationNanos, boolean failed) {
+        timers.computeIfAbsent(name, k -> new Timer()).record(Math.max(durationNanos, 0), failed);
+    }
+
+    @Override
+    public void increment(String name, long count) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(count);
+    }
+
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> timerSnapshot = new TreeMap<>();
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            timerSnapshot.put(entry.getKey(), entry.getValue().getSnapshot());
+        }
+        Map<String, Object> counterSnapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            counterSnapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timers", timerSnapshot);
+        snapshot.put("counters", counterSnapshot);
+        return snapshot;
+    }
+
+    public String toJson() {
+        return gson.toJson(getSnapshot());
+    }
+
+    void export(File file, StewardExecutionResult executionResult) {
+        Map<String, Object> export = new LinkedHashMap<>();
+        export.put("result", executionResult.getSummary());
+        export.putAll(getSnapshot());
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (directory != null && !directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory.getPath());
+            }
+            Files.write(file.toPath(), gson.toJson(export).getBytes(StandardCharsets.UTF_8));
+            StewardLogger.info("Metrics written to " + file.getPath());
+        } catch (IOException e) {
+            StewardLogger.warn("Unable to write metrics to " + file.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Timer {
+
+        private final LongAdder count;
+        private final LongAdder failures;
+        private final LongAdder total;
+        private final AtomicLong max;
+        private final AtomicLongArray buckets;
+
+        private Timer() {
+            this.count = new LongAdder();
+            this.failures = new LongAdder();
+            this.total = new LongAdder();
+            this.max = new AtomicLong();
+            this.buckets = new AtomicLongArray(Long.SIZE);
+        }
+
+        private static int getBucket(long durationNanos) {
+            return Long.SIZE - Long.numberOfLeadingZeros(durationNanos / 1000);
+        }
+
+        private void record(long durationNanos, boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            total.add(durationNanos);
+            max.accumulateAndGet(durationNanos, Math::max);
+            buckets.incrementAndGet(getBucket(durationNanos));
+        }
+
+        private long getPercentile(double percentile, long samples, long maxNanos) {
+            long threshold = (long) Math.ceil(samples * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= threshold) {
+                    return Math.min((1L << i) * 1000, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        private Map<String, Object> getSnapshot() {
+            long samples = count.sum();
+            long totalNanos = total.sum();
+            long maxNanos = max.get();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("count", samples);
+            snapshot.put("failures", failures.sum());
+            snapshot.put("totalMillis", toMillis(totalNanos));
+            snapshot.put("meanMillis", samples > 0 ? toMillis(totalNanos / samples) : 0);
+            for (double percentile : percentiles) {
+                snapshot.put("p" + (int) percentile + "Millis",
+                        samples > 0 ? toMillis(getPercentile(percentile, samples, maxNanos)) : 0);
+            }
+            snapshot.put("maxMillis", toMillis(maxNanos));
+            return snapshot;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package me.shib.steward;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+final class StewardPlan {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private final String projectName;
+    private final String toolName;
+    private final List<StewardChange> changes;
+
+    StewardPlan(StewardData data, Collection<StewardChange> changes) {
+        this.projectName = data.getProjectName();
+        this.toolName = data.getToolName();
+        List<StewardChange> sortedChanges = new ArrayList<>(changes);
+        sortedChanges.sort(Comparator.comparing(StewardChange::getSortKey));
+        this.changes = Collections.unmodifiableList(sortedChanges);
+    }
+
+    String getProjectName() {
+        return projectName;
+    }
+
+    String getToolName() {
+        return toolName;
+    }
+
+    List<StewardChange> getChanges() {
+        return changes;
+    }
+
+    Map<StewardChange.Type, Integer> getCounts() {
+        Map<StewardChange.Type, Integer> counts = new EnumMap<>(StewardChange.Type.class);
+        for (StewardChange change : changes) {
+            counts.merge(change.getType(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    static void export(File file, List<StewardPlan> plans) {
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (directory != null && !directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory.getPath());
+            }
+            Files.write(file.toPath(), gson.toJson(plans).getBytes(StandardCharsets.UTF_8));
+            StewardLogger.info("Plan written to " + file.getPath());
+        } catch (IOException e) {
+            StewardLogger.warn("Unable to write plan to " + file.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Planned changes for " + projectName + " [" + toolName + "]: " + getCounts();
+    }
+
+}
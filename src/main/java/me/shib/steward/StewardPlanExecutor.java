@@ -0,0 +1,236 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class StewardPlanExecutor {
+
+    private final StewardConfig config;
+    private final ContextTrakr tracker;
+    private final StewardTransitionExecutor transitionExecutor;
+    private final StewardCommentCache commentCache;
+    private final StewardFingerprints fingerprints;
+    private final StewardJournal journal;
+    private final StewardExecutionResult executionResult;
+    private final StewardMetrics metrics;
+
+    StewardPlanExecutor(StewardConfig config, ContextTrakr tracker, StewardTransitionExecutor transitionExecutor,
+                        StewardCommentCache commentCache, StewardFingerprints fingerprints, StewardJournal journal,
+                        StewardExecutionResult executionResult) {
+        this.config = config;
+        this.tracker = tracker;
+        this.transitionExecutor = transitionExecutor;
+        this.commentCache = commentCache;
+        this.fingerprints = fingerprints;
+        this.journal = journal;
+        this.executionResult = executionResult;
+        this.metrics = executionResult.getMetrics();
+    }
+
+    void applyFindingChanges(StewardPlan plan) throws StewardException {
+        List<StewardChange> creates = new ArrayList<>();
+        List<StewardChange> updates = new ArrayList<>();
+        for (StewardChange change : plan.getChanges()) {
+            if (change.getType() == StewardChange.Type.create) {
+                creates.add(change);
+            } else if (change.getType() != StewardChange.Type.resolve) {
+                updates.add(change);
+            }
+        }
+        StewardWorkers.run("create", creates.iterator(), config.getSyncConcurrency(), this::applyFindingChange);
+        StewardWorkers.run("sync", updates.iterator(), config.getSyncConcurrency(), this::applyFindingChange);
+    }
+
+    void applyResolveChanges(StewardPlan plan) throws StewardException {
+        List<StewardChange> resolves = new ArrayList<>();
+        for (StewardChange change : plan.getChanges()) {
+            if (change.getType() == StewardChange.Type.resolve) {
+                resolves.add(change);
+            }
+        }
+        StewardWorkers.run("resolve", resolves.iterator(), config.getResolveConcurrency(), change -> {
+            StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(change.getIssue(), false);
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+            try {
+                StewardTimer.run(metrics, "issue.resolve", () -> applyTransition(change, issueLifeCycle));
+                if (journal != null && issueLifeCycle.getExceptions().isEmpty()) {
+                    journal.resolved(issueLifeCycle.getIssue());
+                }
+                if (!issueLifeCycle.isResolved()) {
+                    StewardLogger.info(() -> change.getIssueKey() + ": Auto-resolution was not done.");
+                }
+            } catch (Exception e) {
+                StewardLogger.error(e);
+                issueLifeCycle.addException(e);
+            }
+        });
+    }
+
+    void report(StewardPlan plan) {
+        for (StewardChange change : plan.getChanges()) {
+            StewardIssueLifeCycle issueLifeCycle;
+            if (change.getType() == StewardChange.Type.create) {
+                TrakrIssue issue = new DummyIssue(tracker, toIssueBuilder(change));
+                tracker.addToContext(issue);
+                issueLifeCycle = new StewardIssueLifeCycle(issue, true);
+                issueLifeCycle.setCreated();
+            } else {
+                issueLifeCycle = new StewardIssueLifeCycle(change.getIssue(),
+                        change.getType() != StewardChange.Type.resolve);
+                reportUpdate(change, issueLifeCycle);
+            }
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+        }
+    }
+
+    private void reportUpdate(StewardChange change, StewardIssueLifeCycle issueLifeCycle) {
+        if (change.getAssignee() != null) {
+            issueLifeCycle.setAssigned();
+        }
+        if (change.getTitle() != null) {
+            issueLifeCycle.setTitleUpdated();
+        }
+        if (change.getDescription() != null) {
+            issueLifeCycle.setDescriptionUpdated();
+        }
+        if (change.getLabels() != null) {
+            issueLifeCycle.setLabelsUpdated();
+        }
+        if (change.getPriority() != null) {
+            issueLifeCycle.setPriorityUpdated();
+        }
+        if (change.getComment() != null || !change.getStatusComment(change.isTransition()).isEmpty()) {
+            issueLifeCycle.setCommented();
+        }
+        if (change.isTransition()) {
+            if (change.getType() == StewardChange.Type.reopen) {
+                issueLifeCycle.setReOpened();
+            } else if (change.getType() == StewardChange.Type.resolve) {
+                issueLifeCycle.setResolved();
+            }
+        }
+    }
+
+    private TrakrIssueBuilder toIssueBuilder(StewardChange change) {
+        TrakrIssueBuilder issueBuilder = new TrakrIssueBuilder();
+        issueBuilder.setProject(config.getProjectKey());
+        if (change.getType() == StewardChange.Type.create) {
+            issueBuilder.setIssueType(config.getIssueType());
+        }
+        if (change.getTitle() != null) {
+            issueBuilder.setTitle(change.getTitle());
+        }
+        if (change.getDescription() != null) {
+            issueBuilder.setDescription(new TrakrContent(change.getDescription()));
+        }
+        if (change.getPriority() != null) {
+            issueBuilder.setPriority(change.getPriority());
+        }
+        if (change.getAssignee() != null) {
+            issueBuilder.setAssignee(change.getAssignee());
+        }
+        if (change.getLabels() != null) {
+            issueBuilder.setLabels(change.getLabels());
+        }
+        return issueBuilder;
+    }
+
+    private void applyFindingChange(StewardChange change) {
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            if (journal != null) {
+                journal.planned(change.getJournalEntry());
+            }
+            StewardIssueLifeCycle issueLifeCycle = change.getType() == StewardChange.Type.create ?
+                    applyCreate(change) : applyUpdate(change);
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+            if (issueLifeCycle.getExceptions().isEmpty()) {
+                if (fingerprints != null) {
+                    fingerprints.setSynced(change.getSignature(), change.getFingerprint(),
+                            issueLifeCycle.getIssue().getKey());
+                }
+                if (journal != null) {
+                    journal.synced(change.getJournalEntry(), issueLifeCycle.getIssue());
+                }
+            }
+            failed = false;
+        } catch (TrakrException e) {
+            StewardLogger.error(e);
+            executionResult.addException(e);
+        } finally {
+            metrics.record("finding.sync", System.nanoTime() - startTime, failed);
+        }
+    }
+
+    private StewardIssueLifeCycle applyCreate(StewardChange change) throws TrakrException {
+        TrakrIssue issue = tracker.createIssue(toIssueBuilder(change));
+        StewardLogger.info(() -> "\nCreated new issue: " + issue);
+        StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, true);
+        issueLifeCycle.setCreated();
+        return issueLifeCycle;
+    }
+
+    private StewardIssueLifeCycle applyUpdate(StewardChange change) throws TrakrException {
+        StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(change.getIssue(), true);
+        if (change.isFieldUpdate()) {
+            TrakrIssue issue = tracker.updateIssue(issueLifeCycle.getIssue(), toIssueBuilder(change));
+            if (change.getAssignee() != null) {
+                issueLifeCycle.setAssigned();
+            }
+            if (change.getTitle() != null) {
+                issueLifeCycle.setTitleUpdated();
+            }
+            if (change.getDescription() != null) {
+                issueLifeCycle.setDescriptionUpdated();
+            }
+            if (change.getLabels() != null) {
+                issueLifeCycle.setLabelsUpdated();
+            }
+            if (change.getPriority() != null) {
+                issueLifeCycle.setPriorityUpdated();
+            }
+            if (change.getComment() != null) {
+                addComment(issue, change.getComment());
+                issueLifeCycle.setCommented();
+            }
+            if (change.getType() != StewardChange.Type.reopen) {
+                StewardLogger.info(() -> "\nUpdated the issue: " + issue);
+            }
+        }
+        if (change.getType() == StewardChange.Type.reopen) {
+            applyTransition(change, issueLifeCycle);
+        }
+        return issueLifeCycle;
+    }
+
+    private void applyTransition(StewardChange change, StewardIssueLifeCycle issueLifeCycle) throws TrakrException {
+        boolean reopen = change.getType() == StewardChange.Type.reopen;
+        boolean transitioned = false;
+        if (change.isTransition()) {
+            StewardLogger.info((reopen ? "Reopening" : "Closing") + " the issue " + change.getIssueKey() + ".");
+            transitioned = transitionExecutor.execute(issueLifeCycle, reopen ?
+                    config::getTransitionsToOpen : config::getTransitionsToClose);
+        }
+        if (transitioned) {
+            if (reopen) {
+                issueLifeCycle.setReOpened();
+            } else {
+                issueLifeCycle.setResolved();
+            }
+        }
+        String comment = change.getStatusComment(transitioned);
+        if (!comment.isEmpty()) {
+            addComment(issueLifeCycle.getIssue(), comment);
+            issueLifeCycle.setCommented();
+        }
+    }
+
+    private void addComment(TrakrIssue issue, String comment) throws TrakrException {
+        StewardTimer.time(metrics, "tracker.comment", () -> issue.addComment(new TrakrContent(comment)));
+        commentCache.addComment(issue, comment);
+    }
+
+}
@@ -0,0 +1,366 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class StewardPlanner {
+
+    private final StewardData data;
+    private final StewardConfig config;
+    private final ContextTrakr tracker;
+    private final StewardCommentCache commentCache;
+    private final StewardFingerprints fingerprints;
+    private final StewardJournal journal;
+    private final StewardDuplicates duplicates;
+    private final StewardExecutionResult executionResult;
+    private final StewardMetrics metrics;
+    private final StewardLabelSet dataLabels;
+    private Set<Set<String>> plannedSignatures;
+    private Set<String> claimedKeys;
+    private Map<String, List<StewardLabelSet>> pendingCreates;
+    private List<StewardChange> changes;
+    private List<StewardFinding> deferredFindings;
+
+    StewardPlanner(StewardData data, StewardConfig config, ContextTrakr tracker, StewardCommentCache commentCache,
+                   StewardFingerprints fingerprints, StewardJournal journal, StewardDuplicates duplicates,
+                   StewardExecutionResult executionResult) {
+        this.data = data;
+        this.config = config;
+        this.tracker = tracker;
+        this.commentCache = commentCache;
+        this.fingerprints = fingerprints;
+        this.journal = journal;
+        this.duplicates = duplicates;
+        this.executionResult = executionResult;
+        this.metrics = executionResult.getMetrics();
+        StewardLabels labels = tracker.getLabels();
+        this.dataLabels = labels.of(data.getContexts()).union(labels.of(data.getTags()))
+                .with(data.getProjectName()).with(data.getToolName());
+        startRound();
+    }
+
+    private void startRound() {
+        this.plannedSignatures = ConcurrentHashMap.newKeySet();
+        this.claimedKeys = new HashSet<>();
+        this.pendingCreates = new HashMap<>();
+        this.changes = Collections.synchronizedList(new ArrayList<>());
+        this.deferredFindings = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    StewardPlan planFindings(List<StewardFinding> findings) throws StewardException {
+        startRound();
+        StewardWorkers.run("plan", findings.iterator(), config.getSyncConcurrency(), finding -> {
+            long startTime = System.nanoTime();
+            boolean failed = true;
+            try {
+                planFinding(finding);
+                failed = false;
+            } catch (StewardException | TrakrException e) {
+                StewardLogger.error(e);
+                executionResult.addException(e);
+            } finally {
+                metrics.record("finding.plan", System.nanoTime() - startTime, failed);
+            }
+        });
+        return new StewardPlan(data, changes);
+    }
+
+    List<StewardFinding> getDeferredFindings() {
+        synchronized (deferredFindings) {
+            return new ArrayList<>(deferredFindings);
+        }
+    }
+
+    private void addChange(StewardChange change) {
+        changes.add(change);
+    }
+
+    private void defer(StewardFinding finding) {
+        metrics.increment("findings.deferred", 1);
+        StewardLogger.debug(() -> "Deferring finding until the issues it overlaps with are synced: " +
+                finding.getTitle());
+        deferredFindings.add(finding);
+    }
+
+    private boolean isPendingCreate(StewardLabelSet searchLabels) {
+        List<StewardLabelSet> candidates = null;
+        for (String label : searchLabels) {
+            List<StewardLabelSet> labelCreates = pendingCreates.get(label);
+            if (labelCreates == null) {
+                return false;
+            }
+            if (candidates == null || labelCreates.size() < candidates.size()) {
+                candidates = labelCreates;
+            }
+        }
+        if (candidates == null) {
+            return !pendingCreates.isEmpty();
+        }
+        for (StewardLabelSet labels : candidates) {
+            if (labels.containsAllIds(searchLabels)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized boolean reserve(StewardLabelSet searchLabels, TrakrIssue issue, StewardLabelSet labels) {
+        if (isPendingCreate(searchLabels) || (issue != null && claimedKeys.contains(issue.getKey()))) {
+            return false;
+        }
+        if (issue != null) {
+            claimedKeys.add(issue.getKey());
+        } else {
+            StewardLabelSet foldedLabels = labels.fold();
+            for (String label : foldedLabels) {
+                pendingCreates.computeIfAbsent(label, k -> new ArrayList<>()).add(foldedLabels);
+            }
+        }
+        return true;
+    }
+
+    private StewardLabelSet getLabels(StewardFinding finding) {
+        return dataLabels.union(finding.getContextSet()).union(finding.getTagSet());
+    }
+
+    private StewardChange.Builder newChange(StewardChange.Type type, TrakrIssue issue, StewardFinding finding) {
+        return new StewardChange.Builder(type, issue).setSource(
+                journal != null ? StewardJournal.getEntry(finding) : null,
+                fingerprints != null ? finding.getSignature() : null,
+                fingerprints != null ? fingerprints.getFingerprint(finding, config) : null);
+    }
+
+    private void planFinding(StewardFinding finding) throws StewardException, TrakrException {
+        Set<String> signature = finding.getContextSet().fold();
+        if (!plannedSignatures.add(signature)) {
+            defer(finding);
+            return;
+        }
+        TrakrIssue journaledIssue = journal != null ? journal.getSyncedIssue(finding, tracker) : null;
+        if (journaledIssue != null) {
+            metrics.increment("findings.journaled", 1);
+            executionResult.addIssueLifeCycle(new StewardIssueLifeCycle(journaledIssue, true));
+            return;
+        }
+        if (fingerprints != null) {
+            TrakrIssue unchangedIssue = fingerprints.getUnchangedIssue(finding.getSignature(),
+                    fingerprints.getFingerprint(finding, config), tracker);
+            if (unchangedIssue != null && !config.isReOpeningAllowedForStatus(unchangedIssue.getStatus())) {
+                metrics.increment("findings.unchanged", 1);
+                StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(unchangedIssue, true);
+                if (config.isIssueCompletelyIgnorable(unchangedIssue)) {
+                    issueLifeCycle.setIgnored();
+                }
+                executionResult.addIssueLifeCycle(issueLifeCycle);
+                return;
+            }
+        }
+        TrakrQuery searchQuery = new TrakrQuery(TrakrQuery.Condition.type, TrakrQuery.Operator.matching, config.getIssueType());
+        searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
+        searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
+        for (String context : finding.getContexts()) {
+            searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, context);
+        }
+        List<TrakrIssue> issues = tracker.searchTrakrIssues(searchQuery);
+        StewardLabelSet searchLabels = finding.getContextSet().with(data.getProjectName())
+                .with(data.getToolName()).fold();
+        TrakrIssue issue = null;
+        if (issues.size() == 1) {
+            issue = issues.get(0);
+        } else if (issues.size() > 1) {
+            issue = duplicates.getCanonical(searchLabels, issues);
+            if (issue == null) {
+                throw new StewardException("More than one issue listed:\n"
+                        + "Labels: " + Arrays.toString(finding.getContexts().toArray()) + "\n"
+                        + "Issues: " + Arrays.toString(issues.toArray()));
+            }
+            metrics.increment("findings.duplicateIssues", 1);
+            String issueKey = issue.getKey();
+            StewardLogger.debug(() -> "Syncing " + issueKey + " out of the duplicate issues " +
+                    Arrays.toString(issues.toArray()));
+        }
+        StewardLabelSet labels = getLabels(finding);
+        if (!reserve(searchLabels, issue, labels)) {
+            defer(finding);
+            return;
+        }
+        if (issue == null) {
+            addChange(planCreate(finding, labels));
+            return;
+        }
+        StewardChange change = planSync(issue, finding);
+        if (change != null) {
+            addChange(change);
+        }
+    }
+
+    private StewardChange planCreate(StewardFinding finding, StewardLabelSet labels) {
+        return newChange(StewardChange.Type.create, null, finding)
+                .setTitle(finding.getTitle())
+                .setDescription(finding.getDescription())
+                .setPriority(finding.getPriority())
+                .setAssignee(finding.getAssignee(config))
+                .setLabels(new ArrayList<>(labels))
+                .build();
+    }
+
+    private StewardChange planSync(TrakrIssue issue, StewardFinding finding) throws TrakrException {
+        if (config.isIssueCompletelyIgnorable(issue)) {
+            StewardLogger.debug(() -> "Ignoring the issue: " + issue.getKey());
+            StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, true);
+            issueLifeCycle.setIgnored();
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+            return null;
+        }
+        boolean reopen = config.isReOpeningAllowedForStatus(issue.getStatus());
+        StewardChange.Builder change = newChange(reopen ? StewardChange.Type.reopen : StewardChange.Type.update,
+                issue, finding);
+        boolean updated = false;
+        if (issue.getAssignee() == null && finding.getAssignee(config) != null) {
+            change.setAssignee(finding.getAssignee(config));
+            updated = true;
+        }
+        if (config.isUpdateTitle() && !issue.getTitle().contentEquals(finding.getTitle())) {
+            change.setTitle(finding.getTitle());
+            updated = true;
+        }
+        if (config.isUpdateDescription() &&
+                !tracker.areContentsMatching(new TrakrContent(finding.getDescription()),
+                        issue.getDescription())) {
+            change.setDescription(finding.getDescription());
+            updated = true;
+        }
+        if (config.isUpdateLabels()) {
+            StewardLabelSet issueLabels = ContextIssue.getLabelSet(tracker.getLabels(), issue);
+            StewardLabelSet newLabels = issueLabels.union(finding.getContextSet()).union(finding.getTagSet());
+            if (newLabels.size() != issueLabels.size()) {
+                change.setLabels(new ArrayList<>(newLabels));
+                updated = true;
+            }
+        }
+        if (!config.isPriorityChangeIgnored(issue) && (issue.getPriority() == null || (issue.getPriority().getRank() < finding.getPriority().getRank() && config.isPrioritizeDown())
+                || (issue.getPriority().getRank() > finding.getPriority().getRank() && config.isPrioritizeUp()))) {
+            change.setPriority(finding.getPriority());
+            StewardLogger.info("Prioritizing " + issue.getKey() + " to " + tracker.getPriorityName(finding.getPriority()) + " based on actual priority.");
+            change.setComment("Prioritizing to **" + tracker.getPriorityName(finding.getPriority()) + "** based on actual priority.");
+            updated = true;
+        }
+        if (reopen) {
+            planReopen(issue, change);
+        } else if (!updated) {
+            StewardLogger.debug(() -> "\nIssue up-to date: " + issue);
+            executionResult.addIssueLifeCycle(new StewardIssueLifeCycle(issue, true));
+            if (fingerprints != null) {
+                fingerprints.setSynced(finding.getSignature(), fingerprints.getFingerprint(finding, config),
+                        issue.getKey());
+            }
+            if (journal != null) {
+                journal.synced(StewardJournal.getEntry(finding), issue);
+            }
+            return null;
+        }
+        return change.build();
+    }
+
+    private void planReopen(TrakrIssue issue, StewardChange.Builder change) throws TrakrException {
+        StewardLogger.info("Issue: " + issue.getKey() + " was resolved, but not actually fixed.");
+        List<String> transitions = null;
+        if (config.getAutoReopen().isTransition(issue)) {
+            transitions = config.getTransitionsToOpen(issue.getStatus());
+            if (transitions.size() < 2) {
+                StewardLogger.warn("No path defined to Open the issue from \"" + issue.getStatus() + "\" state.");
+            }
+        }
+        String statusComment = null;
+        String notTransitionedComment = null;
+        if (config.getAutoReopen().isCommentable(issue, new TrakrContent(StewardConfig.issueNotFixedComment),
+                commentCache)) {
+            statusComment = StewardConfig.issueNotFixedComment;
+            notTransitionedComment = "\n" + StewardConfig.reopenRequestComment;
+        }
+        change.setTransitions(transitions, statusComment, StewardConfig.reopeningNotificationComment,
+                notTransitionedComment);
+    }
+
+    StewardPlan planResolves(StewardFindingIndex findingIndex) throws StewardException {
+        startRound();
+        try {
+            if (config.isAutoResolveAllowed()) {
+                StewardLogger.info("\nVerifying if any existing issues are fixed...");
+                TrakrQuery searchQuery = new TrakrQuery(TrakrQuery.Condition.type, TrakrQuery.Operator.matching, config.getIssueType());
+                searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
+                searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
+                for (String context : data.getContexts()) {
+                    searchQuery.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, context);
+                }
+                searchQuery.add(TrakrQuery.Condition.status, TrakrQuery.Operator.not_matching, config.getClosedStatuses());
+                List<TrakrIssue> issues = tracker.searchTrakrIssues(searchQuery);
+                AtomicInteger count = new AtomicInteger();
+                StewardWorkers.run("resolve", issues.iterator(), config.getResolveConcurrency(), issue -> {
+                    if (planResolve(issue, findingIndex)) {
+                        count.incrementAndGet();
+                    }
+                });
+                if (count.get() == 0) {
+                    StewardLogger.info("No relevant issues found to resolve/close.");
+                }
+            }
+        } catch (TrakrException e) {
+            throw new StewardException(e);
+        }
+        return new StewardPlan(data, changes);
+    }
+
+    private boolean planResolve(TrakrIssue issue, StewardFindingIndex findingIndex) {
+        if (findingIndex.isMatchingFolded(ContextIssue.getFoldedLabelSet(tracker.getLabels(), issue)) ||
+                (journal != null && journal.isResolved(issue.getKey()))) {
+            return false;
+        }
+        if (config.isIssueCompletelyIgnorable(issue)) {
+            StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, false);
+            issueLifeCycle.setIgnored();
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+            return false;
+        }
+        if (!config.isAutoResolveAllowedForStatus(issue.getStatus())) {
+            StewardLogger.debug(() -> "Ignoring auto-resolution for the issue: " + issue.getKey());
+            StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, false);
+            issueLifeCycle.setIgnored();
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+            return true;
+        }
+        StewardLogger.info("Issue: " + issue.getKey() + " was found to be fixed, but hasn't been moved to resolved.");
+        List<String> transitions = null;
+        try {
+            if (config.getAutoResolve().isTransition(issue)) {
+                transitions = config.getTransitionsToClose(issue.getStatus());
+                if (transitions.size() < 2) {
+                    StewardLogger.warn("No path defined to Close the issue from \"" + issue.getStatus() + "\" state.");
+                }
+            }
+            String statusComment = null;
+            String notTransitionedComment = null;
+            if (config.getAutoResolve().isCommentable(issue, new TrakrContent(StewardConfig.issueFixedComment),
+                    commentCache)) {
+                statusComment = "\n" + StewardConfig.issueFixedComment;
+                notTransitionedComment = "\n" + StewardConfig.resolveRequestComment;
+            }
+            String transitionedComment = config.isResolvedStatus(issue.getStatus()) ?
+                    StewardConfig.closingNotificationComment :
+                    StewardConfig.autoResolvingNotificationComment + "\n" + StewardConfig.closingNotificationComment;
+            addChange(new StewardChange.Builder(StewardChange.Type.resolve, issue)
+                    .setTransitions(transitions, statusComment, transitionedComment, notTransitionedComment)
+                    .build());
+        } catch (Exception e) {
+            StewardLogger.error(e);
+            StewardIssueLifeCycle issueLifeCycle = new StewardIssueLifeCycle(issue, false);
+            issueLifeCycle.addException(e);
+            executionResult.addIssueLifeCycle(issueLifeCycle);
+        }
+        return true;
+    }
+
+}
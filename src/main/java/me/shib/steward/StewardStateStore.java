@@ -0,0 +1,96 @@
+package me.shib.steward;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+final class StewardStateStore {
+
+    private static final Gson gson = new GsonBuilder().create();
+
+    private final File directory;
+
+    private StewardStateStore(File directory) {
+        this.directory = directory;
+    }
+
+    static StewardStateStore getStore(StewardConfig config) {
+        if (config.getStateDirectory() == null || config.getStateDirectory().isEmpty()) {
+            return null;
+        }
+        return new StewardStateStore(new File(config.getStateDirectory()));
+    }
+
+    static String getHash(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                if (value != null) {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0);
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toFileName(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    File getFile(StewardData data, String name) {
+        return new File(directory, toFileName(data.getProjectName()) + "-" +
+                toFileName(data.getToolName()) + "-" + name);
+    }
+
+    File getFile(String name) {
+        return new File(directory, toFileName(name));
+    }
+
+    <T> T read(File file, Type type) {
+        if (!file.exists() || file.isDirectory()) {
+            return null;
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
+                StandardCharsets.UTF_8))) {
+            return gson.fromJson(reader, type);
+        } catch (Exception e) {
+            StewardLogger.warn("Unable to read state from " + file.getPath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    void write(File file, Object state) {
+        try {
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory.getPath());
+            }
+            File tempFile = new File(file.getPath() + ".tmp");
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile),
+                    StandardCharsets.UTF_8))) {
+                gson.toJson(state, writer);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            StewardLogger.warn("Unable to write state to " + file.getPath() + ": " + e.getMessage());
+        }
+    }
+
+}
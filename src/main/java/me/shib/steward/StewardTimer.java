@@ -0,0 +1,35 @@
+package me.shib.steward;
+
+final class StewardTimer {
+
+    private StewardTimer() {
+    }
+
+    static <T, E extends Exception> T time(StewardMetrics metrics, String name, Call<T, E> call) throws E {
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.call();
+            failed = false;
+            return result;
+        } finally {
+            metrics.record(name, System.nanoTime() - startTime, failed);
+        }
+    }
+
+    static <E extends Exception> void run(StewardMetrics metrics, String name, Task<E> task) throws E {
+        time(metrics, name, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    interface Task<E extends Exception> {
+        void run() throws E;
+    }
+
+    interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+}
@@ -0,0 +1,145 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.Trakr;
+import me.shib.lib.trakr.TrakrException;
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrIssueBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class StewardTransitionExecutor {
+
+    private final Trakr tracker;
+    private final StewardWorkflow workflow;
+    private final StewardMetrics metrics;
+
+    StewardTransitionExecutor(Trakr tracker, StewardWorkflow workflow, StewardMetrics metrics) {
+        this.tracker = tracker;
+        this.workflow = workflow;
+        this.metrics = metrics;
+    }
+
+    private boolean isValid(List<String> path) {
+        for (int i = 1; i < path.size(); i++) {
+            if (!workflow.hasTransition(path.get(i - 1), path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toString(List<String> path) {
+        return String.join(" -> ", path);
+    }
+
+    boolean execute(StewardIssueLifeCycle issueLifeCycle, Function<String, List<String>> planner) {
+        TrakrIssue issue = issueLifeCycle.getIssue();
+        String originalStatus = issue.getStatus();
+        List<String> path = planner.apply(originalStatus);
+        if (path.size() < 2) {
+            return false;
+        }
+        if (!isValid(path)) {
+            issueLifeCycle.addException(new StewardException("Invalid transition path for the issue " +
+                    issue.getKey() + ": " + toString(path)));
+            return false;
+        }
+        long startTime = System.nanoTime();
+        Walk walk = new Walk(issue, originalStatus);
+        try {
+            walk.follow(path);
+            metrics.record("issue.transition", System.nanoTime() - startTime, false);
+            StewardLogger.info(() -> "Transitioning the issue " + issue.getKey() + ": " + toString(path));
+            return true;
+        } catch (Exception e) {
+            issueLifeCycle.addException(e);
+            walk.refresh();
+        }
+        boolean transitioned = false;
+        if (!Objects.equals(originalStatus, walk.status)) {
+            transitioned = rollForward(issueLifeCycle, walk, planner) || rollBack(issueLifeCycle, walk, originalStatus);
+        }
+        metrics.record("issue.transition", System.nanoTime() - startTime, !transitioned);
+        return transitioned;
+    }
+
+    private boolean rollForward(StewardIssueLifeCycle issueLifeCycle, Walk walk,
+                                Function<String, List<String>> planner) {
+        List<String> path = planner.apply(walk.status);
+        if (path.size() < 2 || !isValid(path)) {
+            return false;
+        }
+        try {
+            walk.follow(path);
+            metrics.increment("issue.transition.rolledForward", 1);
+            StewardLogger.info(() -> "Resumed transitioning the issue " + walk.issue.getKey() + ": " + toString(path));
+            return true;
+        } catch (Exception e) {
+            issueLifeCycle.addException(e);
+            walk.refresh();
+            return false;
+        }
+    }
+
+    private boolean rollBack(StewardIssueLifeCycle issueLifeCycle, Walk walk, String originalStatus) {
+        List<String> path = workflow.getTransitionPath(walk.status, Collections.singletonList(originalStatus));
+        if (path.size() > 1 && isValid(path)) {
+            try {
+                walk.follow(path);
+                metrics.increment("issue.transition.rolledBack", 1);
+                StewardLogger.warn("Rolled back the issue " + walk.issue.getKey() + ": " + toString(path));
+                return false;
+            } catch (Exception e) {
+                issueLifeCycle.addException(e);
+                walk.refresh();
+            }
+        }
+        metrics.increment("issue.transition.stranded", 1);
+        StewardLogger.warn("Issue " + walk.issue.getKey() + " was left in \"" + walk.status + "\" state.");
+        return false;
+    }
+
+    private final class Walk {
+
+        private TrakrIssue issue;
+        private String status;
+
+        private Walk(TrakrIssue issue, String status) {
+            this.issue = issue;
+            this.status = status;
+        }
+
+        private void follow(List<String> path) throws TrakrException {
+            for (int i = 1; i < path.size(); i++) {
+                TrakrIssueBuilder moveStatus = new TrakrIssueBuilder();
+                moveStatus.setStatus(path.get(i));
+                TrakrIssue movedIssue = tracker.updateIssue(issue, moveStatus);
+                if (movedIssue != null) {
+                    issue = movedIssue;
+                }
+                String movedStatus = movedIssue != null && movedIssue.getStatus() != null ?
+                        movedIssue.getStatus() : path.get(i);
+                status = movedStatus;
+                if (!movedStatus.equals(path.get(i))) {
+                    throw new TrakrException("Issue " + issue.getKey() + " moved to \"" + movedStatus +
+                            "\" instead of \"" + path.get(i) + "\"");
+                }
+            }
+        }
+
+        private void refresh() {
+            try {
+                issue.refresh();
+                if (issue.getStatus() != null) {
+                    status = issue.getStatus();
+                }
+            } catch (Exception e) {
+                StewardLogger.debug(() -> "Unable to refresh the issue " + issue.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+}
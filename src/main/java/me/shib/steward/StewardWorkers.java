@@ -0,0 +1,63 @@
+package me.shib.steward;
+
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+final class StewardWorkers {
+
+    private static final AtomicInteger poolCount = new AtomicInteger();
+
+    private StewardWorkers() {
+    }
+
+    private static ThreadFactory getThreadFactory(String name) {
+        int pool = poolCount.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "steward-" + name + "-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    static <T> void run(String name, Iterator<T> items, int concurrency, Consumer<T> task) throws StewardException {
+        if (concurrency <= 1) {
+            while (items.hasNext()) {
+                task.accept(items.next());
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, getThreadFactory(name));
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try {
+            while (items.hasNext() && failure.get() == null) {
+                T item = items.next();
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        task.accept(item);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(concurrency);
+            inFlight.release(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StewardException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package me.shib.steward;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StewardWorkflow {
+
+    private final Map<String, List<String>> transitions;
+    private final Map<String, Set<String>> reverseTransitions;
+    private final Map<Set<String>, Map<String, Integer>> distanceMaps;
+    private final Map<Set<String>, Map<String, List<String>>> pathCache;
+
+    StewardWorkflow(Map<String, List<String>> workflow) {
+        this.transitions = new HashMap<>();
+        this.reverseTransitions = new HashMap<>();
+        this.distanceMaps = new ConcurrentHashMap<>();
+        this.pathCache = new ConcurrentHashMap<>();
+        if (workflow != null) {
+            for (Map.Entry<String, List<String>> entry : workflow.entrySet()) {
+                List<String> toStatuses = new ArrayList<>();
+                if (entry.getValue() != null) {
+                    toStatuses.addAll(entry.getValue());
+                }
+                transitions.put(entry.getKey(), Collections.unmodifiableList(toStatuses));
+                reverseTransitions.computeIfAbsent(entry.getKey(), k -> new LinkedHashSet<>());
+                for (String toStatus : toStatuses) {
+                    reverseTransitions.computeIfAbsent(toStatus, k -> new LinkedHashSet<>()).add(entry.getKey());
+                }
+            }
+        }
+    }
+
+    private static Set<String> toTargetSet(Collection<String> toStatuses) {
+        Set<String> targets = new HashSet<>();
+        if (toStatuses != null) {
+            for (String status : toStatuses) {
+                if (status != null) {
+                    targets.add(status);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(targets);
+    }
+
+    private Map<String, Integer> getDistanceMap(Set<String> targets) {
+        return distanceMaps.computeIfAbsent(targets, k -> {
+            Map<String, Integer> distances = new HashMap<>();
+            Deque<String> queue = new ArrayDeque<>();
+            for (String target : targets) {
+                distances.put(target, 0);
+                queue.add(target);
+            }
+            while (!queue.isEmpty()) {
+                String status = queue.poll();
+                Set<String> fromStatuses = reverseTransitions.get(status);
+                if (fromStatuses != null) {
+                    for (String fromStatus : fromStatuses) {
+                        if (!distances.containsKey(fromStatus)) {
+                            distances.put(fromStatus, distances.get(status) + 1);
+                            queue.add(fromStatus);
+                        }
+                    }
+                }
+            }
+            return Collections.unmodifiableMap(distances);
+        });
+    }
+
+    private List<String> computeTransitionPath(String fromStatus, Set<String> targets) {
+        List<String> path = new ArrayList<>();
+        path.add(fromStatus);
+        if (!transitions.containsKey(fromStatus) && !targets.contains(fromStatus)) {
+            StewardLogger.warn("Unable to find transitions for status: " + fromStatus);
+        }
+        Map<String, Integer> distances = getDistanceMap(targets);
+        Integer distance = distances.get(fromStatus);
+        String current = fromStatus;
+        while (distance != null && distance > 0) {
+            String next = null;
+            for (String toStatus : transitions.get(current)) {
+                Integer toDistance = distances.get(toStatus);
+                if (toDistance != null && toDistance == distance - 1) {
+                    next = toStatus;
+                    break;
+                }
+            }
+            path.add(next);
+            current = next;
+            distance = distance - 1;
+        }
+        return Collections.unmodifiableList(path);
+    }
+
+    List<String> getTransitionPath(String fromStatus, Collection<String> toStatuses) {
+        Set<String> targets = toTargetSet(toStatuses);
+        Map<String, List<String>> paths = pathCache.computeIfAbsent(targets, k -> new ConcurrentHashMap<>());
+        if (fromStatus == null) {
+            return computeTransitionPath(null, targets);
+        }
+        return paths.computeIfAbsent(fromStatus, k -> computeTransitionPath(fromStatus, targets));
+    }
+
+    boolean hasTransition(String fromStatus, String toStatus) {
+        List<String> toStatuses = transitions.get(fromStatus);
+        return toStatuses != null && toStatus != null && toStatuses.contains(toStatus);
+    }
+
+    Set<String> getStatuses() {
+        return Collections.unmodifiableSet(reverseTransitions.keySet());
+    }
+
+    List<String> getUnreachableStatuses(Collection<String> toStatuses) {
+        Set<String> targets = toTargetSet(toStatuses);
+        Map<String, Integer> distances = getDistanceMap(targets);
+        List<String> unreachable = new ArrayList<>();
+        for (String status : reverseTransitions.keySet()) {
+            if (!distances.containsKey(status)) {
+                unreachable.add(status);
+            }
+        }
+        Collections.sort(unreachable);
+        return unreachable;
+    }
+
+}
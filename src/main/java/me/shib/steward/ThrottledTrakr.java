@@ -0,0 +1,360 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class ThrottledTrakr extends Trakr {
+
+    private static final long baseBackoff = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long maxBackoff = TimeUnit.SECONDS.toNanos(60);
+    private static final double latencyTolerance = 3;
+    private static final Pattern retryAfterPattern = Pattern.compile("retry[-_ ]after\\D{0,5}(\\d+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern statusPattern = Pattern.compile(
+            "(?:\\bhttps?(?:/[\\d.]+)?|\\bstatus(?:[ _-]?code)?|\\bresponse[ _-]?code|\\berror[ _-]?code|\\bcode)" +
+                    "\\s*[:=]?\\s*(\\d{3})\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern rejectedPattern = Pattern.compile("too many requests|rate limit|service unavailable",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern unavailablePattern = Pattern.compile("bad gateway|gateway time-?out",
+            Pattern.CASE_INSENSITIVE);
+
+    private final transient Trakr trakr;
+    private final transient StewardMetrics metrics;
+    private final transient double rateLimit;
+    private final transient int maxRetries;
+    private final transient ConcurrencyLimit concurrencyLimit;
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+
+    private ThrottledTrakr(Trakr trakr, StewardConfig config, StewardMetrics metrics) {
+        super(trakr.getConnection(), trakr.getPriorityMap());
+        this.trakr = trakr;
+        this.metrics = metrics;
+        this.rateLimit = config.getTrackerRateLimit();
+        this.maxRetries = config.getTrackerMaxRetries();
+        this.concurrencyLimit = config.getTrackerConcurrency() > 0 ?
+                new ConcurrencyLimit(config.getTrackerConcurrency()) : null;
+        this.tokens = Math.max(rateLimit, 1);
+        this.lastRefill = System.nanoTime();
+        this.blockedUntil = 0;
+    }
+
+    static Trakr wrap(Trakr trakr, StewardConfig config, StewardMetrics metrics) {
+        if (trakr instanceof ThrottledTrakr || (config.getTrackerRateLimit() <= 0 &&
+                config.getTrackerMaxRetries() <= 0 && config.getTrackerConcurrency() <= 0)) {
+            return trakr;
+        }
+        return new ThrottledTrakr(trakr, config, metrics);
+    }
+
+    static int getStatusCode(Exception e) {
+        if (e.getMessage() != null) {
+            Matcher matcher = statusPattern.matcher(e.getMessage());
+            while (matcher.find()) {
+                int statusCode = Integer.parseInt(matcher.group(1));
+                if (statusCode >= 400 && statusCode < 600) {
+                    return statusCode;
+                }
+            }
+        }
+        return 0;
+    }
+
+    static boolean isRejected(Exception e) {
+        int statusCode = getStatusCode(e);
+        return statusCode == 429 || statusCode == 503 ||
+                (e.getMessage() != null && rejectedPattern.matcher(e.getMessage()).find());
+    }
+
+    static boolean isThrottled(Exception e) {
+        int statusCode = getStatusCode(e);
+        return isRejected(e) || statusCode == 502 || statusCode == 504 ||
+                (e.getMessage() != null && unavailablePattern.matcher(e.getMessage()).find());
+    }
+
+    static boolean isRetryable(Exception e, boolean idempotent) {
+        return idempotent ? isThrottled(e) : isRejected(e) && retryAfterPattern.matcher(e.getMessage()).find();
+    }
+
+    static long getRetryAfter(Exception e) {
+        if (e.getMessage() != null) {
+            Matcher matcher = retryAfterPattern.matcher(e.getMessage());
+            if (matcher.find()) {
+                try {
+                    return TimeUnit.SECONDS.toNanos(Long.parseLong(matcher.group(1)));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static void sleep(long nanos) throws TrakrException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TrakrException(e);
+        }
+    }
+
+    private void acquireToken() throws TrakrException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (blockedUntil - now > 0) {
+                    waitNanos = blockedUntil - now;
+                } else if (rateLimit <= 0) {
+                    return;
+                } else {
+                    tokens = Math.min(Math.max(rateLimit, 1), tokens + (now - lastRefill) * rateLimit / 1e9);
+                    lastRefill = now;
+                    if (tokens >= 1) {
+                        tokens -= 1;
+                        return;
+                    }
+                    waitNanos = (long) ((1 - tokens) / rateLimit * 1e9);
+                }
+            }
+            sleep(waitNanos);
+        }
+    }
+
+    private synchronized void blockFor(long nanos) {
+        long until = System.nanoTime() + nanos;
+        if (until - blockedUntil > 0) {
+            blockedUntil = until;
+        }
+    }
+
+    private long getBackoff(int attempt, long retryAfter) {
+        long backoff = Math.min(maxBackoff, baseBackoff << Math.min(attempt, 16));
+        long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        return Math.max(jittered, retryAfter);
+    }
+
+    <T> T call(String operation, boolean idempotent, StewardTimer.Call<T, TrakrException> call)
+            throws TrakrException {
+        for (int attempt = 0; ; attempt++) {
+            acquireToken();
+            if (concurrencyLimit != null) {
+                concurrencyLimit.acquire();
+            }
+            boolean throttled = false;
+            TrakrException failure;
+            long startTime = System.nanoTime();
+            try {
+                return call.call();
+            } catch (TrakrException e) {
+                throttled = isThrottled(e);
+                failure = e;
+            } finally {
+                if (concurrencyLimit != null) {
+                    concurrencyLimit.release(System.nanoTime() - startTime, throttled);
+                }
+            }
+            if (!isRetryable(failure, idempotent) || attempt >= maxRetries) {
+                throw failure;
+            }
+            long retryAfter = getRetryAfter(failure);
+            if (retryAfter > 0) {
+                blockFor(retryAfter);
+            }
+            long backoff = getBackoff(attempt, retryAfter);
+            metrics.increment("tracker.retries", 1);
+            StewardLogger.warn("Tracker throttled " + operation + ", retrying in " +
+                    TimeUnit.NANOSECONDS.toMillis(backoff) + "ms: " + failure.getMessage());
+            sleep(backoff);
+        }
+    }
+
+    private TrakrIssue unwrap(TrakrIssue issue) {
+        return issue instanceof ThrottledIssue ? ((ThrottledIssue) issue).issue : issue;
+    }
+
+    private TrakrIssue wrap(TrakrIssue issue) {
+        return issue == null || issue instanceof ThrottledIssue ? issue : new ThrottledIssue(this, issue);
+    }
+
+    @Override
+    public TrakrContent.Type getContentType() {
+        return trakr.getContentType();
+    }
+
+    @Override
+    public TrakrIssue createIssue(TrakrIssueBuilder creator) throws TrakrException {
+        return wrap(call("create", false, () -> trakr.createIssue(creator)));
+    }
+
+    @Override
+    public TrakrIssue updateIssue(TrakrIssue issue, TrakrIssueBuilder updater) throws TrakrException {
+        TrakrIssue trakrIssue = unwrap(issue);
+        return wrap(call("update", true, () -> trakr.updateIssue(trakrIssue, updater)));
+    }
+
+    @Override
+    public List<TrakrIssue> searchTrakrIssues(TrakrQuery query) throws TrakrException {
+        List<TrakrIssue> issues = new ArrayList<>();
+        for (TrakrIssue issue : call("search", true, () -> trakr.searchTrakrIssues(query))) {
+            issues.add(wrap(issue));
+        }
+        return issues;
+    }
+
+    private static final class ConcurrencyLimit {
+
+        private final int maxLimit;
+        private double limit;
+        private int inFlight;
+        private long minLatency;
+
+        private ConcurrencyLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            this.limit = maxLimit;
+            this.inFlight = 0;
+            this.minLatency = Long.MAX_VALUE;
+        }
+
+        private synchronized void acquire() throws TrakrException {
+            try {
+                while (inFlight >= (int) limit) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TrakrException(e);
+            }
+            inFlight++;
+        }
+
+        private synchronized void release(long latency, boolean throttled) {
+            inFlight--;
+            if (throttled) {
+                limit = Math.max(1, limit / 2);
+            } else {
+                minLatency = Math.min(minLatency, Math.max(latency, 1));
+                if (latency > minLatency * latencyTolerance) {
+                    limit = Math.max(1, limit * 0.9);
+                } else {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            notifyAll();
+        }
+    }
+
+    private static final class ThrottledIssue extends TrakrIssue {
+
+        private final transient ThrottledTrakr trakr;
+        private final transient TrakrIssue issue;
+
+        private ThrottledIssue(ThrottledTrakr trakr, TrakrIssue issue) {
+            super(trakr);
+            this.trakr = trakr;
+            this.issue = issue;
+        }
+
+        @Override
+        public void refresh() throws TrakrException {
+            trakr.call("refresh", true, () -> {
+                issue.refresh();
+                return null;
+            });
+        }
+
+        @Override
+        public String getKey() {
+            return issue.getKey();
+        }
+
+        @Override
+        public String getProjectKey() {
+            return issue.getProjectKey();
+        }
+
+        @Override
+        public String getTitle() {
+            return issue.getTitle();
+        }
+
+        @Override
+        public String getDescription() {
+            return issue.getDescription();
+        }
+
+        @Override
+        public String getType() {
+            return issue.getType();
+        }
+
+        @Override
+        public String getStatus() {
+            return issue.getStatus();
+        }
+
+        @Override
+        public TrakrPriority getPriority() {
+            return issue.getPriority();
+        }
+
+        @Override
+        public Date getCreatedDate() {
+            return issue.getCreatedDate();
+        }
+
+        @Override
+        public Date getUpdatedDate() {
+            return issue.getUpdatedDate();
+        }
+
+        @Override
+        public Date getDueDate() {
+            return issue.getDueDate();
+        }
+
+        @Override
+        public TrakrUser getReporter() {
+            return issue.getReporter();
+        }
+
+        @Override
+        public TrakrUser getAssignee() {
+            return issue.getAssignee();
+        }
+
+        @Override
+        public List<TrakrUser> getSubscribers() {
+            return issue.getSubscribers();
+        }
+
+        @Override
+        public List<String> getLabels() {
+            return issue.getLabels();
+        }
+
+        @Override
+        public Object getCustomField(String identifier) {
+            return issue.getCustomField(identifier);
+        }
+
+        @Override
+        public List<TrakrComment> getComments() throws TrakrException {
+            return trakr.call("comments", true, issue::getComments);
+        }
+
+        @Override
+        public TrakrComment addComment(TrakrContent comment) throws TrakrException {
+            return trakr.call("comment", false, () -> issue.addComment(comment));
+        }
+    }
+
+}
@@ -0,0 +1,259 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrException;
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrQuery;
+
+import java.util.*;
+
+final class TrakrIssueIndex {
+
+    private final Map<String, TrakrIssue> issueMap;
+    private final Map<String, IndexEntry> entryMap;
+    private final Map<String, Set<String>> labelIndex;
+    private final Map<String, Set<String>> statusIndex;
+    private final Map<String, Set<String>> typeIndex;
+    private final Map<String, Set<String>> projectIndex;
+    private final Set<String> unlabelledKeys;
+
+    TrakrIssueIndex() {
+        this.issueMap = new HashMap<>();
+        this.entryMap = new HashMap<>();
+        this.labelIndex = new HashMap<>();
+        this.statusIndex = new HashMap<>();
+        this.typeIndex = new HashMap<>();
+        this.projectIndex = new HashMap<>();
+        this.unlabelledKeys = new HashSet<>();
+    }
+
+    private static String fold(String label) {
+        return label != null ? label.toLowerCase() : null;
+    }
+
+    private static Set<String> fold(Collection<String> labels) {
+        Set<String> foldedLabels = new HashSet<>();
+        if (labels != null) {
+            for (String label : labels) {
+                if (label != null) {
+                    foldedLabels.add(fold(label));
+                }
+            }
+        }
+        return foldedLabels;
+    }
+
+    private static void addPosting(Map<String, Set<String>> index, String term, String key) {
+        if (term != null) {
+            index.computeIfAbsent(term, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<String>> index, String term, String key) {
+        if (term != null) {
+            Set<String> postings = index.get(term);
+            if (postings != null) {
+                postings.remove(key);
+                if (postings.isEmpty()) {
+                    index.remove(term);
+                }
+            }
+        }
+    }
+
+    private static List<Set<String>> getPostings(Map<String, Set<String>> index, Collection<String> terms,
+                                                 boolean folded) {
+        List<Set<String>> postings = new ArrayList<>();
+        if (terms != null) {
+            for (String term : terms) {
+                Set<String> termPostings = index.get(folded ? fold(term) : term);
+                if (termPostings != null) {
+                    postings.add(termPostings);
+                }
+            }
+        }
+        return postings;
+    }
+
+    private static int size(List<Set<String>> postings) {
+        int size = 0;
+        for (Set<String> termPostings : postings) {
+            size += termPostings.size();
+        }
+        return size;
+    }
+
+    private static boolean contains(List<Set<String>> postings, String key) {
+        for (Set<String> termPostings : postings) {
+            if (termPostings.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String key, List<List<Set<String>>> inclusions, List<Set<String>> exclusions) {
+        for (int i = 1; i < inclusions.size(); i++) {
+            if (!contains(inclusions.get(i), key)) {
+                return false;
+            }
+        }
+        return !contains(exclusions, key);
+    }
+
+    synchronized void put(TrakrIssue issue) {
+        if (issue == null || issue.getKey() == null) {
+            return;
+        }
+        String key = issue.getKey();
+        remove(key);
+        IndexEntry entry = new IndexEntry(issue);
+        for (String label : entry.labels) {
+            addPosting(labelIndex, label, key);
+        }
+        if (issue.getLabels() == null) {
+            unlabelledKeys.add(key);
+        }
+        addPosting(statusIndex, entry.status, key);
+        addPosting(typeIndex, entry.type, key);
+        addPosting(projectIndex, entry.projectKey, key);
+        entryMap.put(key, entry);
+        issueMap.put(key, issue);
+    }
+
+    synchronized void remove(String key) {
+        IndexEntry entry = entryMap.remove(key);
+        if (entry != null) {
+            for (String label : entry.labels) {
+                removePosting(labelIndex, label, key);
+            }
+            removePosting(statusIndex, entry.status, key);
+            removePosting(typeIndex, entry.type, key);
+            removePosting(projectIndex, entry.projectKey, key);
+        }
+        unlabelledKeys.remove(key);
+        issueMap.remove(key);
+    }
+
+    synchronized TrakrIssue get(String key) {
+        return issueMap.get(key);
+    }
+
+    synchronized List<TrakrIssue> getIssues() {
+        return new ArrayList<>(issueMap.values());
+    }
+
+    synchronized int size() {
+        return issueMap.size();
+    }
+
+    private void refreshUnlabelledIssues() throws TrakrException {
+        List<TrakrIssue> unlabelledIssues;
+        synchronized (this) {
+            if (unlabelledKeys.isEmpty()) {
+                return;
+            }
+            unlabelledIssues = new ArrayList<>();
+            for (String key : unlabelledKeys) {
+                unlabelledIssues.add(issueMap.get(key));
+            }
+        }
+        for (TrakrIssue issue : unlabelledIssues) {
+            synchronized (issue) {
+                issue.refresh();
+            }
+            putRefreshed(issue);
+        }
+    }
+
+    private synchronized void putRefreshed(TrakrIssue issue) {
+        if (issueMap.get(issue.getKey()) == issue) {
+            put(issue);
+            unlabelledKeys.remove(issue.getKey());
+        }
+    }
+
+    private static boolean hasLabelCondition(TrakrQuery query) {
+        for (TrakrQuery.TrakrQueryItem queryItem : query.getQueryItems()) {
+            if (queryItem.getCondition() == TrakrQuery.Condition.label) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    List<TrakrIssue> search(TrakrQuery query) throws TrakrException {
+        if (hasLabelCondition(query)) {
+            refreshUnlabelledIssues();
+        }
+        synchronized (this) {
+            List<List<Set<String>>> inclusions = new ArrayList<>();
+            List<Set<String>> exclusions = new ArrayList<>();
+            for (TrakrQuery.TrakrQueryItem queryItem : query.getQueryItems()) {
+                Map<String, Set<String>> index;
+                boolean folded = false;
+                switch (queryItem.getCondition()) {
+                    case project:
+                        inclusions.add(getPostings(projectIndex, queryItem.getValues(), false));
+                        continue;
+                    case label:
+                        index = labelIndex;
+                        folded = true;
+                        break;
+                    case status:
+                        index = statusIndex;
+                        break;
+                    case type:
+                        index = typeIndex;
+                        break;
+                    default:
+                        continue;
+                }
+                switch (queryItem.getOperator()) {
+                    case matching:
+                        inclusions.add(getPostings(index, queryItem.getValues(), folded));
+                        break;
+                    case not_matching:
+                        exclusions.addAll(getPostings(index, queryItem.getValues(), folded));
+                        break;
+                }
+            }
+            List<TrakrIssue> issues = new ArrayList<>();
+            if (inclusions.isEmpty()) {
+                for (Map.Entry<String, TrakrIssue> entry : issueMap.entrySet()) {
+                    if (!contains(exclusions, entry.getKey())) {
+                        issues.add(entry.getValue());
+                    }
+                }
+                return issues;
+            }
+            inclusions.sort(Comparator.comparingInt(TrakrIssueIndex::size));
+            List<Set<String>> candidates = inclusions.get(0);
+            Set<String> visited = candidates.size() > 1 ? new HashSet<>() : null;
+            for (Set<String> termPostings : candidates) {
+                for (String key : termPostings) {
+                    if ((visited == null || visited.add(key)) && matches(key, inclusions, exclusions)) {
+                        issues.add(issueMap.get(key));
+                    }
+                }
+            }
+            return issues;
+        }
+    }
+
+    private static final class IndexEntry {
+
+        private final Set<String> labels;
+        private final String status;
+        private final String type;
+        private final String projectKey;
+
+        private IndexEntry(TrakrIssue issue) {
+            this.labels = issue instanceof ContextIssue ? ((ContextIssue) issue).getFoldedLabelSet() :
+                    fold(issue.getLabels());
+            this.status = issue.getStatus();
+            this.type = issue.getType();
+            this.projectKey = issue.getProjectKey();
+        }
+    }
+
+}
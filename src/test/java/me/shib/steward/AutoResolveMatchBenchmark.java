@@ -0,0 +1,48 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrException;
+import me.shib.lib.trakr.TrakrIssue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AutoResolveMatchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int findings;
+
+    @Param({"3"})
+    private int contextsPerFinding;
+
+    @Param({"100"})
+    private int labelCardinality;
+
+    private StewardData data;
+    private List<TrakrIssue> issues;
+
+    @Setup(Level.Trial)
+    public void setup() throws TrakrException {
+        data = BenchmarkData.createData(findings, contextsPerFinding, labelCardinality, 1);
+        MemoryTrakr trakr = BenchmarkData.createTracker(data, 1.0, findings / 10, 2);
+        issues = trakr.searchTrakrIssues(BenchmarkData.createContextQuery(data));
+    }
+
+    @Benchmark
+    public void matchAllIssues(Blackhole blackhole) {
+        StewardLabels labels = new StewardLabels();
+        StewardFindingIndex findingIndex = new StewardFindingIndex(labels);
+        new StewardFindingSource(labels, data, data.getFindings().iterator(), findingIndex).drain();
+        for (TrakrIssue issue : issues) {
+            blackhole.consume(findingIndex.isMatching(issue.getLabels()));
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+final class BenchmarkData {
+
+    static final String projectKey = "BENCH";
+    static final String issueType = "Bug";
+    static final String projectName = "benchmark-project";
+    static final String toolName = "benchmark-tool";
+
+    private BenchmarkData() {
+    }
+
+    static Map<TrakrPriority, String> getPriorityMap() {
+        Map<TrakrPriority, String> priorityMap = new HashMap<>();
+        for (TrakrPriority priority : TrakrPriority.values()) {
+            priorityMap.put(priority, priority.name());
+        }
+        return priorityMap;
+    }
+
+    static String getConfigJson() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                BenchmarkData.class.getResourceAsStream("/benchmark-config.json"), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static StewardConfig createConfig() {
+        StewardConfig config = StewardConfigBuilder.parseConfig(getConfigJson());
+        config.setProjectKey(projectKey);
+        config.setIssueType(issueType);
+        config.setPriorityMap(getPriorityMap());
+        config.setTrackerName(Trakr.Type.values()[0]);
+        config.setConnection(new Trakr.Connection("memory://benchmark", "benchmark"));
+        config.setAutoResolve(new StewardConfig.Changes(0, false, true, true, 0));
+        config.setAutoReopen(new StewardConfig.Changes(0, false, true, true, 0));
+        config.setDryRun(true);
+        return config;
+    }
+
+    static StewardData createData(int findings, int contextsPerFinding, int labelCardinality, long seed) {
+        Random random = new Random(seed);
+        StewardData data = new StewardData(projectName, toolName);
+        data.addContext("repository-" + projectName);
+        data.addTag("benchmark");
+        for (int i = 0; i < findings; i++) {
+            StewardFinding finding = new StewardFinding("Finding " + i,
+                    TrakrPriority.values()[random.nextInt(TrakrPriority.values().length)]);
+            finding.setDescription("Synthetic finding " + i + " for benchmarking");
+            finding.addContext("finding-" + i);
+            for (int j = 1; j < contextsPerFinding; j++) {
+                finding.addContext("label-" + random.nextInt(Math.max(labelCardinality, 1)));
+            }
+            finding.addTag("tag-" + random.nextInt(10));
+            data.addFinding(finding);
+        }
+        return data;
+    }
+
+    static TrakrIssueBuilder createIssueBuilder(StewardData data, StewardFinding finding, String status) {
+        Set<String> labels = new LinkedHashSet<>();
+        labels.add(data.getProjectName());
+        labels.add(data.getToolName());
+        labels.addAll(data.getContexts());
+        labels.addAll(finding.getContexts());
+        labels.addAll(data.getTags());
+        labels.addAll(finding.getTags());
+        TrakrIssueBuilder issueBuilder = new TrakrIssueBuilder();
+        issueBuilder.setProject(projectKey);
+        issueBuilder.setIssueType(issueType);
+        issueBuilder.setTitle(finding.getTitle());
+        issueBuilder.setPriority(finding.getPriority());
+        issueBuilder.setDescription(new TrakrContent(finding.getDescription()));
+        issueBuilder.setStatus(status);
+        issueBuilder.setLabels(new ArrayList<>(labels));
+        return issueBuilder;
+    }
+
+    static MemoryTrakr createTracker(StewardData data, double existingRatio, int staleIssues, long seed) {
+        Random random = new Random(seed);
+        MemoryTrakr trakr = new MemoryTrakr(getPriorityMap());
+        for (StewardFinding finding : data.getFindings()) {
+            if (random.nextDouble() < existingRatio) {
+                trakr.seedIssue(createIssueBuilder(data, finding, "Open"));
+            }
+        }
+        for (int i = 0; i < staleIssues; i++) {
+            StewardFinding staleFinding = new StewardFinding("Stale " + i, TrakrPriority.P3);
+            staleFinding.setDescription("Stale issue " + i);
+            staleFinding.addContext("stale-" + i);
+            staleFinding.addContexts(data.getContexts());
+            trakr.seedIssue(createIssueBuilder(data, staleFinding, "In Progress"));
+        }
+        return trakr;
+    }
+
+    static TrakrQuery createContextQuery(StewardData data) {
+        TrakrQuery query = new TrakrQuery();
+        query.add(TrakrQuery.Condition.project, TrakrQuery.Operator.matching, projectKey);
+        query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
+        query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
+        for (String context : data.getContexts()) {
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, context);
+        }
+        return query;
+    }
+
+    static TrakrQuery createFindingQuery(StewardData data, StewardFinding finding) {
+        TrakrQuery query = new TrakrQuery(TrakrQuery.Condition.type, TrakrQuery.Operator.matching, issueType);
+        query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getProjectName());
+        query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, data.getToolName());
+        for (String context : finding.getContexts()) {
+            query.add(TrakrQuery.Condition.label, TrakrQuery.Operator.matching, context);
+        }
+        return query;
+    }
+
+}
@@ -0,0 +1,29 @@
+package me.shib.steward;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConfigLoadBenchmark {
+
+    private String configJson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        configJson = BenchmarkData.getConfigJson();
+    }
+
+    @Benchmark
+    public void parseConfig(Blackhole blackhole) {
+        StewardConfig config = StewardConfigBuilder.parseConfig(configJson);
+        blackhole.consume(config.getWorkflowWarnings());
+    }
+
+}
@@ -0,0 +1,52 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrException;
+import me.shib.lib.trakr.TrakrQuery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContextSearchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int findings;
+
+    @Param({"3"})
+    private int contextsPerFinding;
+
+    @Param({"100"})
+    private int labelCardinality;
+
+    private ContextTrakr contextTrakr;
+    private List<TrakrQuery> queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws TrakrException {
+        StewardData data = BenchmarkData.createData(findings, contextsPerFinding, labelCardinality, 1);
+        MemoryTrakr trakr = BenchmarkData.createTracker(data, 0.8, findings / 10, 2);
+        contextTrakr = new ContextTrakr(trakr, BenchmarkData.createContextQuery(data));
+        queries = new ArrayList<>();
+        for (StewardFinding finding : data.getFindings()) {
+            queries.add(BenchmarkData.createFindingQuery(data, finding));
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public void searchFinding(Blackhole blackhole) throws TrakrException {
+        TrakrQuery query = queries.get(next);
+        next = (next + 1) % queries.size();
+        blackhole.consume(contextTrakr.searchTrakrIssues(query));
+    }
+
+}
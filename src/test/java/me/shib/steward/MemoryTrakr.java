@@ -0,0 +1,290 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class MemoryTrakr extends Trakr {
+
+    private static final String defaultStatus = "Open";
+
+    private final TrakrIssueIndex issueIndex;
+    private final Map<String, AtomicInteger> issueCounters;
+    private final Map<String, AtomicInteger> callCounters;
+    private volatile Map<String, List<String>> workflow;
+    private volatile long latency;
+    private volatile double failureRate;
+
+    MemoryTrakr(Map<TrakrPriority, String> priorityMap) {
+        super(new Trakr.Connection("memory://steward", "steward"), priorityMap);
+        this.issueIndex = new TrakrIssueIndex();
+        this.issueCounters = new ConcurrentHashMap<>();
+        this.callCounters = new ConcurrentHashMap<>();
+        this.latency = 0;
+        this.failureRate = 0;
+    }
+
+    void setWorkflow(Map<String, List<String>> workflow) {
+        this.workflow = workflow;
+    }
+
+    void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    int getIssueCount() {
+        return issueIndex.size();
+    }
+
+    int getCallCount(String operation) {
+        AtomicInteger callCounter = callCounters.get(operation);
+        return callCounter != null ? callCounter.get() : 0;
+    }
+
+    private void simulate(String operation) throws TrakrException {
+        callCounters.computeIfAbsent(operation, k -> new AtomicInteger()).incrementAndGet();
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TrakrException(e);
+            }
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new TrakrException("Simulated failure on " + operation);
+        }
+    }
+
+    private String nextKey(String project) {
+        return project + "-" + issueCounters.computeIfAbsent(project, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    TrakrIssue seedIssue(TrakrIssueBuilder creator) {
+        MemoryIssue issue = new MemoryIssue(this, nextKey(creator.getProject()), creator.getProject(),
+                creator.getIssueType());
+        issue.update(creator);
+        if (issue.status == null) {
+            issue.status = defaultStatus;
+        }
+        issueIndex.put(issue);
+        return issue;
+    }
+
+    @Override
+    public TrakrContent.Type getContentType() {
+        return TrakrContent.Type.values()[0];
+    }
+
+    @Override
+    public TrakrIssue createIssue(TrakrIssueBuilder creator) throws TrakrException {
+        simulate("create");
+        return seedIssue(creator);
+    }
+
+    @Override
+    public TrakrIssue updateIssue(TrakrIssue issue, TrakrIssueBuilder updater) throws TrakrException {
+        simulate("update");
+        TrakrIssue storedIssue = issueIndex.get(issue.getKey());
+        if (!(storedIssue instanceof MemoryIssue)) {
+            throw new TrakrException("Unable to find the issue " + issue.getKey());
+        }
+        MemoryIssue memoryIssue = (MemoryIssue) storedIssue;
+        synchronized (memoryIssue) {
+            if (updater.getStatus() != null && workflow != null && !updater.getStatus().equals(memoryIssue.status)) {
+                List<String> toStatuses = workflow.get(memoryIssue.status);
+                if (toStatuses == null || !toStatuses.contains(updater.getStatus())) {
+                    throw new TrakrException("Transition from \"" + memoryIssue.status + "\" to \"" +
+                            updater.getStatus() + "\" is not allowed for " + memoryIssue.key);
+                }
+            }
+            memoryIssue.update(updater);
+        }
+        issueIndex.put(memoryIssue);
+        return memoryIssue;
+    }
+
+    @Override
+    public List<TrakrIssue> searchTrakrIssues(TrakrQuery query) throws TrakrException {
+        simulate("search");
+        return issueIndex.search(query);
+    }
+
+    static final class MemoryIssue extends TrakrIssue {
+
+        private final transient MemoryTrakr trakr;
+        private final String key;
+        private final String projectKey;
+        private final String type;
+        private final Date createdDate;
+        private final List<TrakrComment> comments;
+        private volatile String title;
+        private volatile String description;
+        private volatile String status;
+        private volatile TrakrPriority priority;
+        private volatile String assignee;
+        private volatile List<String> labels;
+        private volatile Date updatedDate;
+
+        private MemoryIssue(MemoryTrakr trakr, String key, String projectKey, String type) {
+            super(trakr);
+            this.trakr = trakr;
+            this.key = key;
+            this.projectKey = projectKey;
+            this.type = type;
+            this.createdDate = new Date();
+            this.updatedDate = createdDate;
+            this.comments = Collections.synchronizedList(new ArrayList<>());
+            this.labels = Collections.emptyList();
+        }
+
+        private static TrakrUser toUser(String username) {
+            if (username == null) {
+                return null;
+            }
+            return new TrakrUser() {
+                @Override
+                public String getName() {
+                    return username;
+                }
+
+                @Override
+                public String getUsername() {
+                    return username;
+                }
+
+                @Override
+                public String getEmail() {
+                    return username;
+                }
+            };
+        }
+
+        private synchronized void update(TrakrIssueBuilder builder) {
+            if (builder.getTitle() != null) {
+                title = builder.getTitle();
+            }
+            if (builder.getDescription() != null) {
+                description = builder.getDescription().getContent(trakr.getContentType());
+            }
+            if (builder.getStatus() != null) {
+                status = builder.getStatus();
+            }
+            if (builder.getPriority() != null) {
+                priority = builder.getPriority();
+            }
+            if (builder.getAssignee() != null) {
+                assignee = builder.getAssignee();
+            }
+            if (builder.getLabels() != null) {
+                labels = Collections.unmodifiableList(new ArrayList<>(builder.getLabels()));
+            }
+            updatedDate = new Date();
+        }
+
+        @Override
+        public void refresh() throws TrakrException {
+            trakr.simulate("refresh");
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getProjectKey() {
+            return projectKey;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String getStatus() {
+            return status;
+        }
+
+        @Override
+        public TrakrPriority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public Date getCreatedDate() {
+            return createdDate;
+        }
+
+        @Override
+        public Date getUpdatedDate() {
+            return updatedDate;
+        }
+
+        @Override
+        public Date getDueDate() {
+            return null;
+        }
+
+        @Override
+        public TrakrUser getReporter() {
+            return null;
+        }
+
+        @Override
+        public TrakrUser getAssignee() {
+            return toUser(assignee);
+        }
+
+        @Override
+        public List<TrakrUser> getSubscribers() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<String> getLabels() {
+            return labels;
+        }
+
+        @Override
+        public Object getCustomField(String identifier) {
+            return null;
+        }
+
+        @Override
+        public List<TrakrComment> getComments() throws TrakrException {
+            trakr.simulate("comments");
+            synchronized (comments) {
+                return new ArrayList<>(comments);
+            }
+        }
+
+        @Override
+        public TrakrComment addComment(TrakrContent comment) throws TrakrException {
+            trakr.simulate("comment");
+            TrakrComment trakrComment = new DummyIssue.DummyComment(comment, trakr.getContentType());
+            comments.add(trakrComment);
+            updatedDate = new Date();
+            return trakrComment;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StewardContextStoreTest {
+
+    private static StewardData createData(String projectName, String toolName) {
+        StewardData data = new StewardData(projectName, toolName);
+        StewardFinding finding = new StewardFinding("Finding in " + projectName, TrakrPriority.P2);
+        finding.setDescription("Finding in " + projectName);
+        finding.addContext("shared");
+        data.addFinding(finding);
+        return data;
+    }
+
+    @Test
+    void projectsWithoutCommonLabelsAreLoadedSeparately() {
+        StewardConfig config = BenchmarkData.createConfig();
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        List<StewardData> dataList = Arrays.asList(createData("alpha", "scanner"), createData("beta", "linter"));
+        assertNull(StewardContextStore.create(trakr, config, dataList, StewardMetrics.none));
+    }
+
+    @Test
+    void projectsShareOneLoadWithTheirOwnWrappers() throws Exception {
+        StewardConfig config = BenchmarkData.createConfig();
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        StewardData alpha = createData("alpha", "scanner");
+        StewardData beta = createData("beta", "scanner");
+        TrakrIssue issue = trakr.seedIssue(BenchmarkData.createIssueBuilder(alpha, alpha.getFindings().get(0),
+                "Open"));
+        StewardContextStore contextStore = StewardContextStore.create(trakr, config, Arrays.asList(alpha, beta),
+                StewardMetrics.none);
+        assertNotNull(contextStore);
+        ContextTrakr alphaTrakr = new ContextTrakr(trakr, BenchmarkData.createContextQuery(alpha), null,
+                contextStore, new StewardLabels(), StewardMetrics.none);
+        ContextTrakr otherTrakr = new ContextTrakr(trakr, BenchmarkData.createContextQuery(alpha), null,
+                contextStore, new StewardLabels(), StewardMetrics.none);
+        ContextIssue alphaIssue = (ContextIssue) alphaTrakr.getContextIssue(issue.getKey());
+        ContextIssue otherIssue = (ContextIssue) otherTrakr.getContextIssue(issue.getKey());
+        assertNotSame(alphaIssue, otherIssue);
+        assertSame(alphaIssue.getIssue(), otherIssue.getIssue());
+        alphaIssue.refresh();
+        otherIssue.getComments();
+        assertEquals(1, trakr.getCallCount("search"));
+    }
+
+}
@@ -0,0 +1,92 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrIssueBuilder;
+import me.shib.lib.trakr.TrakrPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StewardDuplicatesTest {
+
+    private static final class Counters implements StewardMetrics {
+
+        private final Map<String, Long> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public void record(String name, long durationNanos, boolean failed) {
+        }
+
+        @Override
+        public void increment(String name, long count) {
+            counts.merge(name, count, Long::sum);
+        }
+
+        long get(String name) {
+            return counts.getOrDefault(name, 0L);
+        }
+    }
+
+    private static TrakrIssue seed(MemoryTrakr trakr, StewardData data, StewardFinding finding, String... extraLabels) {
+        TrakrIssueBuilder builder = BenchmarkData.createIssueBuilder(data, finding, "Open");
+        List<String> labels = new ArrayList<>(builder.getLabels());
+        labels.addAll(Arrays.asList(extraLabels));
+        builder.setLabels(labels);
+        return trakr.seedIssue(builder);
+    }
+
+    @Test
+    void supersetsJoinTheirSubsetGroupAndAreCountedOnce() throws Exception {
+        StewardConfig config = BenchmarkData.createConfig();
+        config.setDuplicateIssue(StewardConfig.DuplicateIssue.oldest);
+        StewardData data = new StewardData(BenchmarkData.projectName, BenchmarkData.toolName);
+        StewardFinding finding = new StewardFinding("Shared", TrakrPriority.P2);
+        finding.addContext("shared");
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        TrakrIssue canonical = seed(trakr, data, finding);
+        TrakrIssue triaged = seed(trakr, data, finding, "triaged");
+        TrakrIssue triagedCopy = seed(trakr, data, finding, "Triaged");
+        StewardFinding other = new StewardFinding("Other", TrakrPriority.P2);
+        other.addContext("other");
+        seed(trakr, data, other);
+        ContextTrakr tracker = new ContextTrakr(trakr, BenchmarkData.createContextQuery(data));
+        Counters metrics = new Counters();
+        StewardDuplicates duplicates = StewardDuplicates.detect(tracker, data, config, metrics);
+        assertEquals(1, metrics.get("issues.duplicate.groups"));
+        assertEquals(2, metrics.get("issues.duplicate"));
+        StewardLabelSet searchLabels = tracker.getLabels().of(Arrays.asList(
+                BenchmarkData.projectName, BenchmarkData.toolName, "shared"));
+        List<TrakrIssue> issues = Arrays.asList(triagedCopy, triaged, canonical);
+        assertEquals(canonical.getKey(), duplicates.getCanonical(searchLabels, issues).getKey());
+        List<TrakrIssue> triagedIssues = Arrays.asList(triagedCopy, triaged);
+        assertEquals(triaged.getKey(), duplicates.getCanonical(searchLabels.with("triaged"), triagedIssues)
+                .getKey());
+    }
+
+    @Test
+    void issueCoveringTwoGroupsIsCountedOnce() throws Exception {
+        StewardConfig config = BenchmarkData.createConfig();
+        StewardData data = new StewardData(BenchmarkData.projectName, BenchmarkData.toolName);
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        StewardFinding both = new StewardFinding("Both", TrakrPriority.P2);
+        for (String context : Arrays.asList("a", "b")) {
+            StewardFinding finding = new StewardFinding("Only " + context, TrakrPriority.P2);
+            finding.addContext(context);
+            seed(trakr, data, finding);
+            both.addContext(context);
+        }
+        seed(trakr, data, both);
+        Counters metrics = new Counters();
+        StewardDuplicates.detect(new ContextTrakr(trakr, BenchmarkData.createContextQuery(data)), data, config,
+                metrics);
+        assertEquals(1, metrics.get("issues.duplicate.groups"));
+        assertEquals(1, metrics.get("issues.duplicate"));
+    }
+
+}
@@ -0,0 +1,52 @@
+package me.shib.steward;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StewardLabelsTest {
+
+    @Test
+    void labelSetsFoldAndMatchLikeStringSets() {
+        StewardLabels labels = new StewardLabels();
+        StewardLabelSet labelSet = labels.of(Arrays.asList("Foo", "bar", "BAR"));
+        Set<String> expected = new HashSet<>(Arrays.asList("Foo", "bar", "BAR"));
+        assertEquals(expected, labelSet);
+        assertEquals(expected.hashCode(), labelSet.hashCode());
+        assertEquals(new HashSet<>(Arrays.asList("foo", "bar")), labelSet.fold());
+        assertTrue(labelSet.fold().containsAllIds(labels.ofFolded(Arrays.asList("FOO"))));
+    }
+
+    @Test
+    void dictionariesAreIndependent() {
+        StewardLabels first = new StewardLabels();
+        StewardLabels second = new StewardLabels();
+        first.of(Arrays.asList("only-in-first"));
+        StewardLabelSet firstSet = first.of(Arrays.asList("a", "B"));
+        StewardLabelSet secondSet = second.of(Arrays.asList("B", "a"));
+        assertEquals(-1, second.findId("only-in-first"));
+        assertEquals(firstSet, secondSet);
+        assertEquals(firstSet.hashCode(), secondSet.hashCode());
+        assertTrue(firstSet.containsAllIds(second.of(Arrays.asList("a"))));
+        StewardLabelSet union = firstSet.union(second.of(Arrays.asList("c")));
+        assertTrue(union.isOf(first));
+        assertEquals(new HashSet<>(Arrays.asList("a", "B", "c")), union);
+    }
+
+    @Test
+    void findingIndexMatchesFoldedSupersets() {
+        StewardLabels labels = new StewardLabels();
+        StewardFindingIndex findingIndex = new StewardFindingIndex(labels);
+        findingIndex.add(Arrays.asList("Foo", "X-1"));
+        assertTrue(findingIndex.isMatching(Arrays.asList("foo", "x-1", "other")));
+        assertFalse(findingIndex.isMatching(Arrays.asList("FOO")));
+        assertTrue(findingIndex.isMatchingFolded(new StewardLabels().of(Arrays.asList("FOO", "x-1")).fold()));
+    }
+
+}
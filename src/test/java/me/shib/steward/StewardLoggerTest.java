@@ -0,0 +1,72 @@
+package me.shib.steward;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StewardLoggerTest {
+
+    private static String capture(long writeDelay, Runnable logging) {
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                try {
+                    Thread.sleep(writeDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(b, off, len);
+            }
+        };
+        PrintStream stream = new PrintStream(output, true);
+        System.setOut(stream);
+        System.setErr(stream);
+        try {
+            StewardLogger.setLevel("INFO");
+            logging.run();
+            StewardLogger.flush();
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void warningsAndErrorsAreNotDroppedWhenTheBufferIsFull() {
+        String output = capture(5, () -> {
+            for (int i = 0; i < 50000; i++) {
+                StewardLogger.info("Filler " + i);
+                if (i % 1000 == 0) {
+                    StewardLogger.warn("Warning " + i);
+                }
+            }
+            StewardLogger.error(new IllegalStateException("Last failure"));
+        });
+        for (int i = 0; i < 50000; i += 1000) {
+            assertTrue(output.contains("Warning " + i + System.lineSeparator()));
+        }
+        assertTrue(output.contains("log messages were dropped"));
+        assertTrue(output.contains("Last failure"));
+    }
+
+    @Test
+    void outputAndErrorsStayInOrder() {
+        String output = capture(0, () -> {
+            StewardLogger.info("Before the failure");
+            StewardLogger.error(new IllegalStateException("Ordered failure"));
+            StewardLogger.info("After the failure");
+        });
+        int before = output.indexOf("Before the failure");
+        int failure = output.indexOf("Ordered failure");
+        int after = output.indexOf("After the failure");
+        assertTrue(before >= 0 && before < failure && failure < after);
+    }
+
+}
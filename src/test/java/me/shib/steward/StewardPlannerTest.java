@@ -0,0 +1,166 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrIssue;
+import me.shib.lib.trakr.TrakrIssueBuilder;
+import me.shib.lib.trakr.TrakrPriority;
+import me.shib.lib.trakr.TrakrQuery;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StewardPlannerTest {
+
+    private static StewardConfig createConfig() {
+        StewardConfig config = BenchmarkData.createConfig();
+        config.setDryRun(false);
+        config.setSyncConcurrency(1);
+        return config;
+    }
+
+    private static StewardData createData() {
+        StewardData data = new StewardData(BenchmarkData.projectName, BenchmarkData.toolName);
+        data.addContext("repository-" + BenchmarkData.projectName);
+        return data;
+    }
+
+    private static StewardFinding createFinding(String title, TrakrPriority priority, String... contexts) {
+        StewardFinding finding = new StewardFinding(title, priority);
+        finding.setDescription(title);
+        for (String context : contexts) {
+            finding.addContext(context);
+        }
+        return finding;
+    }
+
+    private static List<TrakrIssue> getIssues(MemoryTrakr trakr) throws Exception {
+        return trakr.searchTrakrIssues(new TrakrQuery());
+    }
+
+    @Test
+    void sameSignatureFindingIsPlannedAsFurtherUpdate() throws Exception {
+        StewardConfig config = createConfig();
+        config.setPrioritizeUp(true);
+        StewardData data = createData();
+        data.addFinding(createFinding("Low", TrakrPriority.P3, "shared"));
+        data.addFinding(createFinding("High", TrakrPriority.P1, "shared"));
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        StewardExecutionResult result = Steward.process(data, config, trakr);
+        List<TrakrIssue> issues = getIssues(trakr);
+        assertEquals(0, result.getExceptions().size());
+        assertEquals(1, issues.size());
+        assertEquals(TrakrPriority.P1, issues.get(0).getPriority());
+    }
+
+    @Test
+    void subsetContextsShareOneIssue() throws Exception {
+        StewardConfig config = createConfig();
+        StewardData data = createData();
+        data.addFinding(createFinding("Both", TrakrPriority.P2, "a", "b"));
+        data.addFinding(createFinding("Either", TrakrPriority.P2, "a"));
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        StewardExecutionResult result = Steward.process(data, config, trakr);
+        assertEquals(0, result.getExceptions().size());
+        assertEquals(1, getIssues(trakr).size());
+        result = Steward.process(data, config, trakr);
+        assertEquals(0, result.getExceptions().size());
+        assertEquals(1, getIssues(trakr).size());
+    }
+
+    @Test
+    void duplicateWithExtraLabelSyncsToTheCanonicalIssue() throws Exception {
+        StewardConfig config = createConfig();
+        config.setDuplicateIssue(StewardConfig.DuplicateIssue.oldest);
+        StewardData data = createData();
+        StewardFinding finding = createFinding("Shared", TrakrPriority.P2, "shared");
+        data.addFinding(finding);
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        TrakrIssue canonical = trakr.seedIssue(BenchmarkData.createIssueBuilder(data, finding, "Open"));
+        TrakrIssueBuilder triaged = BenchmarkData.createIssueBuilder(data, finding, "Open");
+        List<String> labels = new ArrayList<>(triaged.getLabels());
+        labels.add("triaged");
+        triaged.setLabels(labels);
+        trakr.seedIssue(triaged);
+        StewardExecutionResult result = Steward.process(data, config, trakr);
+        assertEquals(0, result.getExceptions().size());
+        assertEquals(2, getIssues(trakr).size());
+        assertEquals(1, result.getIssueLifeCycles().size());
+        assertTrue(result.getIssueLifeCycles().containsKey(canonical.getKey()));
+    }
+
+    @Test
+    void offlineDryRunDoesNotReadCommentsFromTheTracker() throws Exception {
+        StewardConfig config = createConfig();
+        config.setStateDirectory(Files.createTempDirectory("steward").toString());
+        config.setOffline(true);
+        StewardData data = BenchmarkData.createData(50, 3, 20, 1);
+        MemoryTrakr trakr = BenchmarkData.createTracker(data, 0.5, 5, 2);
+        trakr.setWorkflow(config.getWorkflow());
+        config.setDryRun(true);
+        Steward.process(data, config, trakr);
+        int commentReads = trakr.getCallCount("comments");
+        trakr.setFailureRate(1.0);
+        StewardExecutionResult result = Steward.process(data, config, trakr);
+        assertEquals(0, result.getExceptions().size());
+        assertTrue(result.getResolved() > 0);
+        assertEquals(commentReads, trakr.getCallCount("comments"));
+    }
+
+    @Test
+    void snapshotIssueIsFetchedByKeyAfterItsLabelsChange() throws Exception {
+        StewardConfig config = createConfig();
+        config.setStateDirectory(Files.createTempDirectory("steward").toString());
+        config.setContextSnapshotMaxAge(60);
+        config.setPrioritizeUp(true);
+        StewardData data = createData();
+        data.addFinding(createFinding("Shared", TrakrPriority.P3, "shared"));
+        MemoryTrakr trakr = new MemoryTrakr(BenchmarkData.getPriorityMap());
+        Steward.process(data, config, trakr);
+        TrakrIssue issue = getIssues(trakr).get(0);
+        List<String> labels = new ArrayList<>(issue.getLabels());
+        labels.remove("shared");
+        TrakrIssueBuilder relabel = new TrakrIssueBuilder();
+        relabel.setLabels(labels);
+        trakr.updateIssue(issue, relabel);
+        data = createData();
+        data.addFinding(createFinding("Shared", TrakrPriority.P1, "shared"));
+        StewardExecutionResult result = Steward.process(data, config, trakr);
+        assertEquals(0, result.getExceptions().size());
+        assertEquals(1, getIssues(trakr).size());
+        assertEquals(TrakrPriority.P1, getIssues(trakr).get(0).getPriority());
+    }
+
+    @Test
+    void contextsDifferingOnlyByCaseShareOneSignature() {
+        StewardLabels labels = new StewardLabels();
+        StewardData data = createData();
+        StewardFinding upper = createFinding("Upper", TrakrPriority.P2, "Shared", "Repo")
+                .prepare(labels, labels.of(data.getContexts()), labels.of(data.getTags()));
+        StewardFinding lower = createFinding("Lower", TrakrPriority.P2, "repo", "shared")
+                .prepare(labels, labels.of(data.getContexts()), labels.of(data.getTags()));
+        assertEquals(upper.getContextSet().fold(), lower.getContextSet().fold());
+        assertEquals(upper.getSignature(), lower.getSignature());
+    }
+
+    @Test
+    void dryRunDoesNotWriteToTheTracker() throws Exception {
+        StewardConfig config = createConfig();
+        StewardData data = BenchmarkData.createData(50, 3, 20, 1);
+        MemoryTrakr trakr = BenchmarkData.createTracker(data, 0.5, 5, 2);
+        trakr.setWorkflow(config.getWorkflow());
+        int issueCount = trakr.getIssueCount();
+        config.setDryRun(true);
+        StewardExecutionResult result = Steward.process(data, config, trakr);
+        assertTrue(result.getCreated() > 0);
+        assertTrue(result.getResolved() > 0);
+        assertEquals(issueCount, trakr.getIssueCount());
+        assertEquals(0, trakr.getCallCount("create"));
+        assertEquals(0, trakr.getCallCount("update"));
+        assertEquals(0, trakr.getCallCount("comment"));
+    }
+
+}
@@ -0,0 +1,44 @@
+package me.shib.steward;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StewardProcessBenchmark {
+
+    @Param({"1000", "5000"})
+    private int findings;
+
+    @Param({"3"})
+    private int contextsPerFinding;
+
+    @Param({"100"})
+    private int labelCardinality;
+
+    @Param({"0.8"})
+    private double existingRatio;
+
+    private StewardConfig config;
+    private StewardData data;
+    private MemoryTrakr trakr;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        config = BenchmarkData.createConfig();
+        data = BenchmarkData.createData(findings, contextsPerFinding, labelCardinality, 1);
+        trakr = BenchmarkData.createTracker(data, existingRatio, findings / 10, 2);
+    }
+
+    @Benchmark
+    public void processDryRun(Blackhole blackhole) throws StewardException {
+        blackhole.consume(Steward.process(data, config, trakr));
+    }
+
+}
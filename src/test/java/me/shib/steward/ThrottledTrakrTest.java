@@ -0,0 +1,70 @@
+package me.shib.steward;
+
+import me.shib.lib.trakr.TrakrException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThrottledTrakrTest {
+
+    @Test
+    void statusCodeNeedsAStatusContext() {
+        assertEquals(503, ThrottledTrakr.getStatusCode(new TrakrException("HTTP/1.1 503 Service Unavailable")));
+        assertEquals(429, ThrottledTrakr.getStatusCode(new TrakrException("Request failed with status code: 429")));
+        assertEquals(504, ThrottledTrakr.getStatusCode(new TrakrException("HTTP 504")));
+        assertEquals(0, ThrottledTrakr.getStatusCode(new TrakrException("Unable to find SEC-503")));
+        assertFalse(ThrottledTrakr.isThrottled(new TrakrException("Transition is not allowed for SEC-429")));
+    }
+
+    @Test
+    void writesAreRetriedOnlyWhenRejectedWithRetryAfter() {
+        TrakrException rejected = new TrakrException("HTTP 429 Too Many Requests, Retry-After: 2");
+        TrakrException badGateway = new TrakrException("HTTP 502 Bad Gateway");
+        TrakrException unavailable = new TrakrException("HTTP 503 Service Unavailable");
+        assertTrue(ThrottledTrakr.isRetryable(rejected, false));
+        assertTrue(ThrottledTrakr.isRetryable(new TrakrException("HTTP 503 (Retry-After: 0)"), false));
+        assertTrue(ThrottledTrakr.isRetryable(badGateway, true));
+        assertFalse(ThrottledTrakr.isRetryable(badGateway, false));
+        assertTrue(ThrottledTrakr.isRetryable(unavailable, true));
+        assertFalse(ThrottledTrakr.isRetryable(unavailable, false));
+    }
+
+    @Test
+    void backoffDoesNotHoldAConcurrencySlot() throws Exception {
+        StewardConfig config = BenchmarkData.createConfig();
+        config.setTrackerConcurrency(1);
+        config.setTrackerMaxRetries(1);
+        ThrottledTrakr trakr = (ThrottledTrakr) ThrottledTrakr.wrap(new MemoryTrakr(BenchmarkData.getPriorityMap()),
+                config, StewardMetrics.none);
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        Thread retrying = new Thread(() -> {
+            try {
+                trakr.call("search", true, () -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        failed.countDown();
+                        throw new TrakrException("HTTP 502 Bad Gateway");
+                    }
+                    return attempts.get();
+                });
+            } catch (TrakrException ignored) {
+            }
+        });
+        retrying.start();
+        failed.await();
+        Thread.sleep(20);
+        long startTime = System.nanoTime();
+        assertEquals("healthy", trakr.call("search", true, () -> "healthy"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 200);
+        assertEquals(1, attempts.get());
+        retrying.join();
+        assertEquals(2, attempts.get());
+    }
+
+}
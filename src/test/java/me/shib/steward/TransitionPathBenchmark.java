@@ -0,0 +1,47 @@
+package me.shib.steward;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransitionPathBenchmark {
+
+    private static final String[] statuses = {"Open", "Reopened", "Invalid", "In Progress", "Done", "Fixed", "Closed"};
+
+    private StewardConfig config;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        config = BenchmarkData.createConfig();
+        next = 0;
+    }
+
+    @Benchmark
+    public void transitionsToClose(Blackhole blackhole) {
+        String status = statuses[next];
+        next = (next + 1) % statuses.length;
+        blackhole.consume(config.getTransitionsToClose(status));
+        blackhole.consume(config.getTransitionsToOpen(status));
+    }
+
+    @Benchmark
+    public void compileWorkflow(Blackhole blackhole) {
+        StewardConfig freshConfig = BenchmarkData.createConfig();
+        List<List<String>> paths = new ArrayList<>();
+        for (String status : statuses) {
+            paths.add(freshConfig.getTransitionsToClose(status));
+        }
+        blackhole.consume(paths);
+    }
+
+}